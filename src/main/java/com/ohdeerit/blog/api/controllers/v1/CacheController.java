@@ -0,0 +1,30 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import com.ohdeerit.blog.services.interfaces.ResponseCacheService;
+import com.ohdeerit.blog.services.interfaces.PostCacheService;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.GetMapping;
+import com.ohdeerit.blog.models.dtos.CacheStatsDto;
+import org.springframework.http.ResponseEntity;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping(path = "/api/v1/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final PostCacheService postCacheService;
+    private final ResponseCacheService responseCacheService;
+
+    @GetMapping(path = "/stats")
+    public ResponseEntity<List<CacheStatsDto>> getStats() {
+        final List<CacheStatsDto> stats = new ArrayList<>(postCacheService.getStats());
+        stats.add(responseCacheService.getStats());
+
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,15 +1,20 @@
 package com.ohdeerit.blog.api.controllers.v1;
 
 import com.ohdeerit.blog.api.request.CreateCategoryRequest;
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
 import com.ohdeerit.blog.services.interfaces.CategoryService;
 import com.ohdeerit.blog.models.dtos.CategoryDto;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 
+import com.ohdeerit.blog.utils.ETagUtil;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -20,12 +25,17 @@ import java.util.UUID;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getCategories() {
+    public ResponseEntity<List<CategoryDto>> getCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
         final List<CategoryDto> categories = categoryService.getCategories();
 
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(categories);
     }
 
     @PostMapping
@@ -0,0 +1,47 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.ohdeerit.blog.services.interfaces.ExportService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping(path = "/api/v1/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final String EXPORT_FILE_NAME = "export.ndjson";
+
+    @Value("${app.export.request-timeout}")
+    private Duration requestTimeout;
+
+    private final ExportService exportService;
+
+    /**
+     * Streams every post and media record as NDJSON. A large export outlives the container's default async
+     * timeout, so the request gets its own.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(final HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(requestTimeout.toMillis());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(EXPORT_FILE_NAME).build().toString())
+                .cacheControl(CacheControl.noStore())
+                .body(exportService::export);
+    }
+}
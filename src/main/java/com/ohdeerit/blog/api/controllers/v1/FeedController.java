@@ -0,0 +1,51 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.context.request.WebRequest;
+import com.ohdeerit.blog.services.interfaces.FeedService;
+import org.springframework.http.ResponseEntity;
+import com.ohdeerit.blog.models.dtos.FeedDto;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+public class FeedController {
+
+    private static final MediaType RSS_XML = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+
+    private final FeedService feedService;
+
+    @GetMapping(path = "/feed.xml")
+    public ResponseEntity<byte[]> getFeed(WebRequest webRequest) {
+        return toResponse(feedService.getFeed(), RSS_XML, webRequest);
+    }
+
+    @GetMapping(path = "/feed/category/{id}.xml")
+    public ResponseEntity<byte[]> getCategoryFeed(@PathVariable UUID id, WebRequest webRequest) {
+        return toResponse(feedService.getCategoryFeed(id), RSS_XML, webRequest);
+    }
+
+    @GetMapping(path = "/sitemap.xml")
+    public ResponseEntity<byte[]> getSitemap(WebRequest webRequest) {
+        return toResponse(feedService.getSitemap(), XML, webRequest);
+    }
+
+    private static ResponseEntity<byte[]> toResponse(final FeedDto feed, final MediaType mediaType,
+                                                     final WebRequest webRequest) {
+        if (webRequest.checkNotModified(feed.eTag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.noCache())
+                .body(feed.body());
+    }
+}
@@ -0,0 +1,68 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.ohdeerit.blog.services.interfaces.ImportService;
+import org.springframework.web.bind.annotation.PostMapping;
+import com.ohdeerit.blog.models.dtos.ImportProgressDto;
+import org.springframework.beans.factory.annotation.Value;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import java.io.UncheckedIOException;
+import java.io.OutputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+@RestController
+@RequestMapping(path = "/api/v1/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    @Value("${app.import.request-timeout}")
+    private Duration requestTimeout;
+
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams one NDJSON progress line per committed batch, then a final line with {@code done} set. A large
+     * import runs for hours, so the request gets its own async timeout. When it times out or the client goes
+     * away the import is interrupted and stops before its next batch.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importRecords(
+            final InputStream body,
+            @RequestAttribute final UUID userId,
+            final HttpServletRequest request
+    ) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(requestTimeout.toMillis());
+
+        final StreamingResponseBody progress = outputStream -> importService.importRecords(body, userId,
+                report -> writeProgress(report, outputStream));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                .body(progress);
+    }
+
+    private void writeProgress(final ImportProgressDto report, final OutputStream outputStream) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(report));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ohdeerit.blog.api.controllers.v1;
 
 import org.springframework.validation.annotation.Validated;
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
+import com.ohdeerit.blog.services.interfaces.MediaJobService;
 import com.ohdeerit.blog.services.interfaces.MediaService;
 import org.springframework.beans.factory.annotation.Value;
 import com.ohdeerit.blog.api.request.CreateMediaRequest;
@@ -8,10 +10,14 @@ import com.ohdeerit.blog.services.mappers.SliceMapper;
 import com.ohdeerit.blog.api.response.SliceResponse;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.data.domain.Pageable;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
 import jakarta.validation.constraints.NotNull;
+import com.ohdeerit.blog.models.dtos.MediaJobDto;
 import com.ohdeerit.blog.models.dtos.MediaDto;
+import com.ohdeerit.blog.utils.CursorUtil;
+import com.ohdeerit.blog.utils.ETagUtil;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
@@ -19,6 +25,9 @@ import org.springframework.http.MediaType;
 import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 
+import java.net.URI;
+import java.util.UUID;
+
 @Validated
 @RestController
 @RequestMapping(path = "/api/v1/media")
@@ -26,6 +35,8 @@ import jakarta.validation.Valid;
 public class MediaController {
 
     private final MediaService mediaService;
+    private final MediaJobService mediaJobService;
+    private final ContentVersionService contentVersionService;
     private final SliceMapper sliceMapper;
 
     @Value("${app.pagination.posts-per-page}")
@@ -33,14 +44,29 @@ public class MediaController {
 
     @GetMapping
     public ResponseEntity<SliceResponse<MediaDto>> getMedia(
-            @RequestParam(defaultValue = "1") @NotNull final int page
+            @RequestParam(defaultValue = "1") @NotNull final int page,
+            @RequestParam(required = false) final String cursor,
+            final WebRequest webRequest
     ) {
         Sort sort = Sort.by(Sort.Direction.DESC, "id");
-        Pageable pageable = PageRequest.of(page - 1, mediaPerPage, sort);
+        Integer mediaCursor = CursorUtil.decodeMediaCursor(cursor);
+
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
 
-        Slice<MediaDto> media = mediaService.getMedia(pageable);
-        SliceResponse<MediaDto> response = sliceMapper.toSliceResponse(media);
-        return ResponseEntity.ok(response);
+        Slice<MediaDto> media;
+        if (mediaCursor == null) {
+            media = mediaService.getMedia(PageRequest.of(page - 1, mediaPerPage, sort));
+        } else {
+            media = mediaService.getMediaBefore(mediaCursor, PageRequest.of(0, mediaPerPage, sort));
+        }
+
+        SliceResponse<MediaDto> response = sliceMapper.toSliceResponse(
+                media,
+                mediaDto -> CursorUtil.encodeMediaCursor(mediaDto.id())
+        );
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -49,4 +75,21 @@ public class MediaController {
 
         return new ResponseEntity<>(createdMedia, HttpStatus.CREATED);
     }
+
+    /**
+     * Queues the upload and answers before any thumbnail is rendered; progress is polled from the job.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE, params = "async=true")
+    public ResponseEntity<MediaJobDto> createMediaAsync(@ModelAttribute @Valid @NotNull final CreateMediaRequest request) {
+        final MediaJobDto job = mediaJobService.submit(request.media());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/media/jobs/" + job.id()))
+                .body(job);
+    }
+
+    @GetMapping(path = "/jobs/{id}")
+    public ResponseEntity<MediaJobDto> getMediaJob(@PathVariable final UUID id) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(mediaJobService.getJob(id));
+    }
 }
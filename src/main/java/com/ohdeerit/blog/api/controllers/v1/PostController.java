@@ -2,15 +2,32 @@ package com.ohdeerit.blog.api.controllers.v1;
 
 import org.springframework.validation.annotation.Validated;
 import org.springframework.beans.factory.annotation.Value;
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
+import com.ohdeerit.blog.services.interfaces.RelatedPostsService;
+import com.ohdeerit.blog.services.interfaces.PostFilterService;
+import com.ohdeerit.blog.services.interfaces.ArchiveService;
+import com.ohdeerit.blog.services.interfaces.SearchService;
 import com.ohdeerit.blog.services.interfaces.PostService;
 import com.ohdeerit.blog.api.request.UpdatePostRequest;
 import com.ohdeerit.blog.api.request.CreatePostRequest;
+import com.ohdeerit.blog.models.dtos.PostSearchHitDto;
+import com.ohdeerit.blog.models.dtos.RelatedPostDto;
+import com.ohdeerit.blog.models.dtos.PostSummaryDto;
+import com.ohdeerit.blog.models.dtos.PostCursorDto;
+import com.ohdeerit.blog.models.dtos.PostFacetsDto;
+import com.ohdeerit.blog.models.dtos.ArchiveYearDto;
+import com.ohdeerit.blog.models.dtos.PostFilterDto;
+import com.ohdeerit.blog.models.enums.TagMatch;
+import com.ohdeerit.blog.utils.CursorUtil;
 import com.ohdeerit.blog.services.mappers.SliceMapper;
 import com.ohdeerit.blog.api.response.SliceResponse;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
+import com.ohdeerit.blog.utils.ETagUtil;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Slice;
 import com.ohdeerit.blog.models.dtos.PostDto;
@@ -20,7 +37,10 @@ import org.springframework.http.MediaType;
 import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
+import java.util.Set;
 
 @Validated
 @RestController
@@ -29,35 +49,125 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final SearchService searchService;
+    private final PostFilterService postFilterService;
+    private final ArchiveService archiveService;
+    private final RelatedPostsService relatedPostsService;
+    private final ContentVersionService contentVersionService;
     private final SliceMapper sliceMapper;
 
     @Value("${app.pagination.posts-per-page}")
     private int postsPerPage;
 
     @GetMapping
-    public ResponseEntity<SliceResponse<PostDto>> getPosts(
-            @RequestParam(required = false) UUID categoryId,
-            @RequestParam(required = false) UUID tagId,
-            @RequestParam(defaultValue = "1") int page
+    public ResponseEntity<SliceResponse<PostSummaryDto>> getPosts(
+            @RequestParam(name = "categoryId", required = false) Set<UUID> categoryIds,
+            @RequestParam(name = "tagId", required = false) Set<UUID> tagIds,
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
-        Pageable pageable = PageRequest.of(page - 1, postsPerPage, sort);
-        Slice<PostDto> posts = postService.getPosts(categoryId, tagId, pageable);
-        SliceResponse<PostDto> response = sliceMapper.toSliceResponse(posts);
+        PostCursorDto postCursor = CursorUtil.decodePostCursor(cursor);
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
+        Pageable pageable = buildPageable(page, postCursor);
+        Slice<PostSummaryDto> posts = isFiltered(categoryIds, tagIds)
+                ? postFilterService.getPosts(new PostFilterDto(categoryIds, tagIds, tagMatch), postCursor, pageable)
+                : postService.getPosts(postCursor, pageable);
+        SliceResponse<PostSummaryDto> response = sliceMapper.toSliceResponse(posts, PostController::toCursor);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @GetMapping(path = "/facets")
+    public ResponseEntity<PostFacetsDto> getFacets(
+            @RequestParam(name = "categoryId", required = false) Set<UUID> categoryIds,
+            @RequestParam(name = "tagId", required = false) Set<UUID> tagIds,
+            @RequestParam(defaultValue = "ALL") TagMatch tagMatch,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
 
-        return ResponseEntity.ok(response);
+        final PostFacetsDto facets = postFilterService.getFacets(new PostFilterDto(categoryIds, tagIds, tagMatch));
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(facets);
     }
 
     @GetMapping(path = "/all")
-    public ResponseEntity<SliceResponse<PostDto>> getAllPosts(
-            @RequestParam(defaultValue = "1") int page
+    public ResponseEntity<SliceResponse<PostSummaryDto>> getAllPosts(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
+    ) {
+        PostCursorDto postCursor = CursorUtil.decodePostCursor(cursor);
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
+        Pageable pageable = buildPageable(page, postCursor);
+        Slice<PostSummaryDto> posts = postService.getAllPosts(postCursor, pageable);
+        SliceResponse<PostSummaryDto> response = sliceMapper.toSliceResponse(posts, PostController::toCursor);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @GetMapping(path = "/archive")
+    public ResponseEntity<List<ArchiveYearDto>> getArchive(WebRequest webRequest) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
+        final List<ArchiveYearDto> archive = archiveService.getArchive();
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(archive);
+    }
+
+    @GetMapping(path = "/archive/{year}/{month}")
+    public ResponseEntity<SliceResponse<PostSummaryDto>> getArchivePosts(
+            @PathVariable int year,
+            @PathVariable int month,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest
     ) {
-        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
-        Pageable pageable = PageRequest.of(page - 1, postsPerPage, sort);
-        Slice<PostDto> posts = postService.getAllPosts(pageable);
-        SliceResponse<PostDto> response = sliceMapper.toSliceResponse(posts);
+        if (year < 1 || year > 9999) {
+            throw new IllegalArgumentException("Year must be between 1 and 9999");
+        }
+
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+
+        PostCursorDto postCursor = CursorUtil.decodePostCursor(cursor);
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
 
-        return ResponseEntity.ok(response);
+        Pageable pageable = buildPageable(page, postCursor);
+        Slice<PostSummaryDto> posts = postService.getArchivePosts(YearMonth.of(year, month), postCursor, pageable);
+        SliceResponse<PostSummaryDto> response = sliceMapper.toSliceResponse(posts, PostController::toCursor);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    @GetMapping(path = "/search")
+    public ResponseEntity<List<PostSearchHitDto>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
+        final List<PostSearchHitDto> hits = searchService.search(q, limit);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(hits);
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -82,17 +192,54 @@ public class PostController {
 
 
     @GetMapping(path = "/{id}")
-    public ResponseEntity<PostDto> getPost(@PathVariable UUID id) {
+    public ResponseEntity<PostDto> getPost(@PathVariable UUID id, WebRequest webRequest) {
+        return getPostIfModified(id, webRequest);
+    }
+
+    @GetMapping(path = "/slug/{slug}")
+    public ResponseEntity<PostDto> getPostBySlug(@PathVariable String slug, WebRequest webRequest) {
+        final UUID id = postService.getPostId(slug);
+
+        return getPostIfModified(id, webRequest);
+    }
+
+    @GetMapping(path = "/{id}/related")
+    public ResponseEntity<List<RelatedPostDto>> getRelatedPosts(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "5") int limit,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
+        final List<RelatedPostDto> related = relatedPostsService.getRelatedPosts(id, limit);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(related);
+    }
+
+    private ResponseEntity<PostDto> getPostIfModified(final UUID id, final WebRequest webRequest) {
+        final String eTag = ETagUtil.of(contentVersionService.getVersion(), postService.getPostUpdatedAt(id));
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         final PostDto postDto = postService.getPost(id);
 
-        return ResponseEntity.ok(postDto);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(postDto);
     }
 
-    @GetMapping(path = "/slug/{slug}")
-    public ResponseEntity<PostDto> getPostBySlug(@PathVariable String slug) {
-        final PostDto postDto = postService.getPostBySlug(slug);
+    private static boolean isFiltered(final Set<UUID> categoryIds, final Set<UUID> tagIds) {
+        return (categoryIds != null && !categoryIds.isEmpty()) || (tagIds != null && !tagIds.isEmpty());
+    }
 
-        return ResponseEntity.ok(postDto);
+    private Pageable buildPageable(final int page, final PostCursorDto cursor) {
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+        return PageRequest.of(cursor == null ? page - 1 : 0, postsPerPage, sort);
     }
 
+    private static String toCursor(final PostSummaryDto post) {
+        return CursorUtil.encodePostCursor(post.createdAt(), post.id());
+    }
 }
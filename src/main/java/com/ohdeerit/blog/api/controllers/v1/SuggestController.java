@@ -0,0 +1,39 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
+import com.ohdeerit.blog.services.interfaces.SuggestService;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
+import com.ohdeerit.blog.models.dtos.SuggestionDto;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
+import com.ohdeerit.blog.utils.ETagUtil;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Validated
+@RestController
+@RequestMapping(path = "/api/v1/suggest")
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService suggestService;
+    private final ContentVersionService contentVersionService;
+
+    @GetMapping
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "5") int limit,
+            WebRequest webRequest
+    ) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
+        final List<SuggestionDto> suggestions = suggestService.suggest(q, limit);
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(suggestions);
+    }
+}
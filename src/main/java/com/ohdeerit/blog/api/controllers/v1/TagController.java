@@ -3,13 +3,18 @@ package com.ohdeerit.blog.api.controllers.v1;
 import com.ohdeerit.blog.api.request.CreateTagsRequest;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
 import com.ohdeerit.blog.services.interfaces.TagService;
 import com.ohdeerit.blog.models.dtos.TagDto;
 import org.springframework.http.HttpStatus;
 import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 
+import com.ohdeerit.blog.utils.ETagUtil;
+
 import java.util.List;
 import java.util.UUID;
 
@@ -20,12 +25,17 @@ import java.util.UUID;
 public class TagController {
 
     private final TagService tagService;
+    private final ContentVersionService contentVersionService;
 
     @GetMapping
-    public ResponseEntity<List<TagDto>> getTags() {
+    public ResponseEntity<List<TagDto>> getTags(WebRequest webRequest) {
+        if (webRequest.checkNotModified(ETagUtil.of(contentVersionService.getVersion()))) {
+            return null;
+        }
+
         List<TagDto> tags = tagService.getTags();
 
-        return ResponseEntity.ok(tags);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(tags);
     }
 
     @PostMapping
@@ -0,0 +1,137 @@
+package com.ohdeerit.blog.api.filters;
+
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
+import com.ohdeerit.blog.services.interfaces.ResponseCacheService;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.ohdeerit.blog.models.dtos.CachedResponseDto;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import jakarta.servlet.ServletException;
+import lombok.RequiredArgsConstructor;
+import jakarta.servlet.FilterChain;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Serves the hottest public GET endpoints from pre-serialized JSON bytes, with a gzip variant
+ * for clients that accept it. Runs after the security filter chain, so cached responses still
+ * receive the security headers.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CACHED_PATHS = Set.of("/api/v1/posts", "/api/v1/categories", "/api/v1/tags");
+    private static final String CACHED_SLUG_PATH = "/api/v1/posts/slug/";
+
+    private final ResponseCacheService responseCacheService;
+    private final ContentVersionService contentVersionService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        final String path = request.getRequestURI();
+        if (CACHED_PATHS.contains(path)) {
+            return false;
+        }
+
+        return !path.startsWith(CACHED_SLUG_PATH) || path.indexOf('/', CACHED_SLUG_PATH.length()) >= 0;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        final String key = cacheKey(request);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        final CachedResponseDto cachedResponse = responseCacheService.get(key);
+        if (cachedResponse != null) {
+            writeCachedResponse(request, response, cachedResponse);
+            return;
+        }
+
+        final long contentVersion = contentVersionService.getVersion();
+        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            if (isCacheable(responseWrapper)) {
+                responseCacheService.put(key, new CachedResponseDto(
+                        contentVersion,
+                        responseWrapper.getContentType(),
+                        responseWrapper.getHeader(HttpHeaders.ETAG),
+                        responseWrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                        responseWrapper.getContentAsByteArray(),
+                        null
+                ));
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void writeCachedResponse(HttpServletRequest request,
+                                     HttpServletResponse response,
+                                     CachedResponseDto cachedResponse) throws IOException {
+        final String eTag = cachedResponse.eTag();
+        if (eTag != null && new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+
+        final boolean gzip = cachedResponse.gzipBody() != null && acceptsGzip(request);
+        final byte[] body = gzip ? cachedResponse.gzipBody() : cachedResponse.body();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cachedResponse.contentType());
+        if (cachedResponse.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cachedResponse.cacheControl());
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean isCacheable(ContentCachingResponseWrapper response) {
+        final String contentType = response.getContentType();
+
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null
+                && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        final String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    private static String cacheKey(HttpServletRequest request) {
+        final String query = request.getQueryString();
+
+        return query == null ? request.getRequestURI() : request.getRequestURI() + "?" + query;
+    }
+}
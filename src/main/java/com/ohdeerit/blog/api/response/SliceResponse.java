@@ -24,6 +24,9 @@ public record SliceResponse<T>(
         boolean first,
 
         @JsonProperty("last")
-        boolean last
+        boolean last,
+
+        @JsonProperty("nextCursor")
+        String nextCursor
 ) {
 }
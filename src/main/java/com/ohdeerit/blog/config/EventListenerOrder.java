@@ -0,0 +1,18 @@
+package com.ohdeerit.blog.config;
+
+/**
+ * Order of the after-commit listeners of post and content changes. Read models are refreshed first and the
+ * content version is bumped after them, so a request that sees the new version never renders from stale
+ * state; cached responses are dropped last.
+ */
+public final class EventListenerOrder {
+
+    private EventListenerOrder() {
+    }
+
+    public static final int READ_MODELS = 0;
+
+    public static final int CONTENT_VERSION = 100;
+
+    public static final int RESPONSE_CACHE = 200;
+}
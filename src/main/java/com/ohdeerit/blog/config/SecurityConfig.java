@@ -21,10 +21,12 @@ import org.springframework.web.cors.CorsConfiguration;
 import com.ohdeerit.blog.repositories.UserRepository;
 import org.springframework.context.annotation.Bean;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.DispatcherType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 
 @Configuration
 public class SecurityConfig {
@@ -50,10 +52,14 @@ public class SecurityConfig {
             JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
         http
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses finish on an async dispatch of a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/api/v1/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/all/**").authenticated()
-                        .requestMatchers(HttpMethod.GET, "/api/v1/categories/**", "/api/v1/posts/**", "/api/v1/tags/**", "/api/v1/media/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/media/jobs/**").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/categories/**", "/api/v1/posts/**", "/api/v1/tags/**", "/api/v1/media/**", "/api/v1/suggest").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/feed.xml", "/feed/**", "/sitemap.xml").permitAll()
 
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/categories/**").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/v1/categories/**").authenticated()
@@ -98,7 +104,7 @@ public class SecurityConfig {
                 "Content-Type",
                 "X-Requested-With"
         ));
-        configuration.setExposedHeaders(Collections.emptyList());
+        configuration.setExposedHeaders(List.of(HttpHeaders.ETAG));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(SecurityConstants.SESSION_DURATION_SECONDS);
 
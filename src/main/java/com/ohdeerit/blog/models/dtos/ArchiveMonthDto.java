@@ -0,0 +1,7 @@
+package com.ohdeerit.blog.models.dtos;
+
+public record ArchiveMonthDto(
+        int month,
+        long count
+) {
+}
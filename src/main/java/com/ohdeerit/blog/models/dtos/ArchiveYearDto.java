@@ -0,0 +1,10 @@
+package com.ohdeerit.blog.models.dtos;
+
+import java.util.List;
+
+public record ArchiveYearDto(
+        int year,
+        long count,
+        List<ArchiveMonthDto> months
+) {
+}
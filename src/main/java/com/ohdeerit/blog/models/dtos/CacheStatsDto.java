@@ -0,0 +1,12 @@
+package com.ohdeerit.blog.models.dtos;
+
+public record CacheStatsDto(
+        String name,
+        long estimatedSize,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long evictionWeight
+) {
+}
@@ -0,0 +1,11 @@
+package com.ohdeerit.blog.models.dtos;
+
+public record CachedResponseDto(
+        long contentVersion,
+        String contentType,
+        String eTag,
+        String cacheControl,
+        byte[] body,
+        byte[] gzipBody
+) {
+}
@@ -0,0 +1,12 @@
+package com.ohdeerit.blog.models.dtos;
+
+import java.util.List;
+
+public record ContentAnalysisDto(
+        int wordCount,
+        int readingTime,
+        int imageCount,
+        List<PostHeadingDto> outline,
+        String excerpt
+) {
+}
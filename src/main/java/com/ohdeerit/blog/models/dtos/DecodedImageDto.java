@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.models.dtos;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * A possibly subsampled raster together with the full-resolution size of the area it was decoded from.
+ */
+public record DecodedImageDto(
+        BufferedImage image,
+        int width,
+        int height
+) {
+}
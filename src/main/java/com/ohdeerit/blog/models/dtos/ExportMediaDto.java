@@ -0,0 +1,21 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ExportMediaDto(
+        Integer id,
+        String name,
+        String shortDescription,
+        String shortSlug,
+        String folder,
+        // Renamed so it does not clash with the record type tag
+        @JsonProperty("mediaType")
+        byte type,
+        byte status,
+        LocalDateTime updatedAt,
+        List<ExportMediaFileDto> files
+) implements ExportRecordDto {
+}
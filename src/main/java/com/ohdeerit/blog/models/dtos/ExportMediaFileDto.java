@@ -0,0 +1,9 @@
+package com.ohdeerit.blog.models.dtos;
+
+public record ExportMediaFileDto(
+        String file,
+        String shortDescription,
+        Integer size,
+        Integer position
+) {
+}
@@ -0,0 +1,25 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.ohdeerit.blog.models.enums.PostStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ExportPostDto(
+        UUID id,
+        String title,
+        String slug,
+        String shortDescription,
+        String content,
+        String thumbnail,
+        PostStatus status,
+        Integer readingTime,
+        UUID authorId,
+        CategoryDto category,
+        List<TagDto> tags,
+        Integer mediaId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) implements ExportRecordDto {
+}
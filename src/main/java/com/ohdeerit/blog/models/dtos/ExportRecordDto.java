@@ -0,0 +1,15 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * One line of the NDJSON export, tagged with its {@code type}.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = ExportPostDto.class, name = "post"),
+        @JsonSubTypes.Type(value = ExportMediaDto.class, name = "media")
+})
+public sealed interface ExportRecordDto permits ExportPostDto, ExportMediaDto {
+}
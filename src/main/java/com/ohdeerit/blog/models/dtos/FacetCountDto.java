@@ -0,0 +1,10 @@
+package com.ohdeerit.blog.models.dtos;
+
+import java.util.UUID;
+
+public record FacetCountDto(
+        UUID id,
+        String name,
+        long count
+) {
+}
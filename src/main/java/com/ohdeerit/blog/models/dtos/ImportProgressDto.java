@@ -0,0 +1,18 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Running totals of a bulk import, reported after every committed batch. The last report has {@code done}
+ * set, and carries the {@code error} that stopped the import, if any.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportProgressDto(
+        long lines,
+        long created,
+        long updated,
+        long skipped,
+        boolean done,
+        String error
+) {
+}
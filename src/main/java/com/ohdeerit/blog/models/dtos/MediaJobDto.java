@@ -0,0 +1,20 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.ohdeerit.blog.models.enums.MediaJobStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MediaJobDto(
+        UUID id,
+        MediaJobStatus status,
+        int totalFiles,
+        int processedFiles,
+        MediaDto media,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.ohdeerit.blog.models.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record PostCursorDto(
+        LocalDateTime createdAt,
+        UUID id
+) {
+}
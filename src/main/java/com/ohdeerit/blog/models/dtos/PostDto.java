@@ -3,6 +3,7 @@ package com.ohdeerit.blog.models.dtos;
 import com.ohdeerit.blog.models.enums.PostStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import java.util.Set;
 
@@ -19,6 +20,10 @@ public record PostDto(
         CategoryDto category,
         Set<TagDto> tags,
         Integer readingTime,
+        Integer wordCount,
+        Integer imageCount,
+        List<PostHeadingDto> outline,
+        String excerpt,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -0,0 +1,10 @@
+package com.ohdeerit.blog.models.dtos;
+
+import java.util.List;
+
+public record PostFacetsDto(
+        long total,
+        List<FacetCountDto> categories,
+        List<FacetCountDto> tags
+) {
+}
@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.ohdeerit.blog.models.enums.TagMatch;
+
+import java.util.UUID;
+import java.util.Set;
+
+public record PostFilterDto(
+        Set<UUID> categoryIds,
+        Set<UUID> tagIds,
+        TagMatch tagMatch
+) {
+}
@@ -0,0 +1,7 @@
+package com.ohdeerit.blog.models.dtos;
+
+public record PostHeadingDto(
+        int level,
+        String text
+) {
+}
@@ -0,0 +1,7 @@
+package com.ohdeerit.blog.models.dtos;
+
+public record PostSearchHitDto(
+        double score,
+        PostSummaryDto post
+) {
+}
@@ -0,0 +1,21 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.ohdeerit.blog.models.enums.PostStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.Set;
+
+public record PostSummaryDto(
+        UUID id,
+        String title,
+        String slug,
+        String shortDescription,
+        String thumbnail,
+        PostStatus status,
+        CategoryDto category,
+        Set<String> tags,
+        Integer readingTime,
+        LocalDateTime createdAt
+) {
+}
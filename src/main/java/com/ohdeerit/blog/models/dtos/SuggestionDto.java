@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.models.dtos;
+
+import com.ohdeerit.blog.models.enums.SuggestionType;
+
+import java.util.UUID;
+
+public record SuggestionDto(
+        SuggestionType type,
+        UUID id,
+        String text,
+        String slug
+) {
+}
@@ -1,5 +1,7 @@
 package com.ohdeerit.blog.models.entities;
 
+import org.hibernate.annotations.BatchSize;
+import com.ohdeerit.blog.utils.SlugUtil;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -7,7 +9,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Objects;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
 @Table(name = "media")
@@ -17,6 +18,9 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MediaEntity {
+
+    public static final int SHORT_SLUG_LENGTH = 120;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
@@ -27,7 +31,7 @@ public class MediaEntity {
     @Column(name = "short", nullable = false)
     private String shortDescription;
 
-    @Column(name = "short_slug", nullable = false, length = 120)
+    @Column(name = "short_slug", nullable = false, length = SHORT_SLUG_LENGTH)
     private String shortSlug;
 
     @Column(nullable = false)
@@ -44,6 +48,7 @@ public class MediaEntity {
 
     @Builder.Default
     @OneToMany
+    @BatchSize(size = 50)
     @JoinColumn(name = "media_id")
     @OrderBy("position ASC")
     private List<MediaFileEntity> mediaFiles = new ArrayList<>();
@@ -53,7 +58,7 @@ public class MediaEntity {
         this.updatedAt = LocalDateTime.now();
 
         if (this.shortSlug == null || this.shortSlug.trim().isEmpty()) {
-            this.shortSlug = generateSlug(this.shortDescription);
+            this.shortSlug = SlugUtil.slugify(this.shortDescription, SHORT_SLUG_LENGTH);
         }
 
     }
@@ -63,29 +68,6 @@ public class MediaEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
-    private String generateSlug(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return UUID.randomUUID().toString();
-        }
-
-        String slug = name.toLowerCase()
-                .replace("ą", "a")
-                .replace("ć", "c")
-                .replace("ę", "e")
-                .replace("ł", "l")
-                .replace("ń", "n")
-                .replace("ó", "o")
-                .replace("ś", "s")
-                .replace("ź", "z")
-                .replace("ż", "z")
-                .replaceAll("[^a-z0-9\\s-]", "")
-                .replaceAll("\\s+", "-")
-                .replaceAll("-+", "-")
-                .replaceAll("^-|-$", "");
-
-        return slug.length() > 120 ? slug.substring(0, 120) : slug;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -1,5 +1,7 @@
 package com.ohdeerit.blog.models.entities;
 
+import com.ohdeerit.blog.config.ThumbnailConstants;
+import com.ohdeerit.blog.utils.ThumbnailUtil;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -30,4 +32,21 @@ public class MediaFileEntity {
 
     @Column(nullable = false)
     private Integer position;
+
+    @Column(name = "thumbnail_165")
+    private String thumbnail165;
+
+    @Column(name = "thumbnail_600")
+    private String thumbnail600;
+
+    /**
+     * Stores the file names of the resized copies, so reads never hash the file name.
+     */
+    @PrePersist
+    protected void onCreate() {
+        this.thumbnail165 = ThumbnailUtil.generateThumbnailFileName(file,
+                ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS.get(0));
+        this.thumbnail600 = ThumbnailUtil.generateThumbnailFileName(file,
+                ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS.get(1));
+    }
 }
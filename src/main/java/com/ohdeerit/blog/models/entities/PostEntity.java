@@ -1,35 +1,58 @@
 package com.ohdeerit.blog.models.entities;
 
+import com.ohdeerit.blog.models.generators.UuidV7;
+import com.ohdeerit.blog.models.dtos.ContentAnalysisDto;
 import com.ohdeerit.blog.config.ThumbnailConstants;
-import com.ohdeerit.blog.utils.FileOperationsUtil;
+import com.ohdeerit.blog.utils.ContentAnalyzerUtil;
+import com.ohdeerit.blog.models.dtos.PostHeadingDto;
 import com.ohdeerit.blog.models.enums.PostStatus;
 import com.ohdeerit.blog.utils.ThumbnailUtil;
+import com.ohdeerit.blog.utils.SlugUtil;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.type.SqlTypes;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.Set;
 
 @Entity
 @Table(name = "posts")
+@NamedEntityGraph(
+        name = PostEntity.WITH_ASSOCIATIONS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("author"),
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("media")
+        }
+)
+// No builder or all-args constructor: they would set the content without the fields derived from it
 @Setter
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class PostEntity {
 
+    public static final int SLUG_LENGTH = 255;
+
+    /**
+     * Joins the to-one associations; collections are left to {@link BatchSize} so content is never
+     * multiplied by tag or media file rows.
+     */
+    public static final String WITH_ASSOCIATIONS_GRAPH = "PostEntity.withAssociations";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
-    @Column(nullable = false, unique = true, length = 255)
+    @Column(nullable = false, length = 255)
     private String title;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false, unique = true, length = SLUG_LENGTH)
     private String slug;
 
     @Column(nullable = false, name = "short", length = 1000)
@@ -41,6 +64,10 @@ public class PostEntity {
     @Column(nullable = false)
     private String thumbnail;
 
+    @Setter(AccessLevel.NONE)
+    @Column(name = "thumbnail_name")
+    private String thumbnailName;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private PostStatus status;
@@ -48,6 +75,18 @@ public class PostEntity {
     @Column(nullable = false)
     private Integer readingTime;
 
+    @Column(nullable = false)
+    private Integer wordCount;
+
+    @Column(nullable = false)
+    private Integer imageCount;
+
+    @Column(length = 1000)
+    private String excerpt;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<PostHeadingDto> outline;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private UserEntity author;
@@ -56,8 +95,8 @@ public class PostEntity {
     @JoinColumn(name = "category_id", nullable = false)
     private CategoryEntity category;
 
-    @Builder.Default
     @ManyToMany
+    @BatchSize(size = 50)
     @JoinTable(
             name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
@@ -102,11 +141,22 @@ public class PostEntity {
     protected void onCreate() {
         final LocalDateTime now = LocalDateTime.now();
 
-        this.createdAt = now;
-        this.updatedAt = now;
+        // Imported posts keep the timestamps of their source
+        if (this.createdAt == null) {
+            this.createdAt = now;
+        }
+
+        if (this.updatedAt == null) {
+            this.updatedAt = this.createdAt;
+        }
+
+        if (this.thumbnailName == null) {
+            this.thumbnailName = ThumbnailUtil.generateThumbnailFileName(this.thumbnail,
+                    ThumbnailConstants.POST_THUMBNAIL);
+        }
 
         if (this.slug == null || this.slug.trim().isEmpty()) {
-            this.slug = generateSlug(this.title);
+            this.slug = SlugUtil.slugify(this.title, SLUG_LENGTH);
         }
     }
 
@@ -115,38 +165,25 @@ public class PostEntity {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public String getThumbnailHash() {
-        if (thumbnail == null || thumbnail.isEmpty()) {
-            return thumbnail;
-        }
-
-        String hash = ThumbnailUtil.generateImageMd5Hash(
-                thumbnail,
-                ThumbnailConstants.POST_THUMBNAIL
-        );
-
-        String extension = FileOperationsUtil.getFileExtension(thumbnail);
-        return hash + "." + extension;
+    /**
+     * Sets the content together with the data derived from it, so they never go out of sync.
+     */
+    public void setContent(String content) {
+        final ContentAnalysisDto analysis = ContentAnalyzerUtil.analyze(content);
+
+        this.content = content;
+        this.wordCount = analysis.wordCount();
+        this.readingTime = analysis.readingTime();
+        this.imageCount = analysis.imageCount();
+        this.outline = analysis.outline();
+        this.excerpt = analysis.excerpt();
     }
 
-    private String generateSlug(String title) {
-        if (title == null || title.trim().isEmpty()) {
-            return UUID.randomUUID().toString();
-        }
-
-        return title.toLowerCase()
-                .replace("ą", "a")
-                .replace("ć", "c")
-                .replace("ę", "e")
-                .replace("ł", "l")
-                .replace("ń", "n")
-                .replace("ó", "o")
-                .replace("ś", "s")
-                .replace("ź", "z")
-                .replace("ż", "z")
-                .replaceAll("[^a-z0-9\\s-]", "")
-                .replaceAll("\\s+", "-")
-                .replaceAll("-+", "-")
-                .replaceAll("^-|-$", "");
+    /**
+     * Sets the uploaded thumbnail together with the file name of its resized copy, so reads never hash it.
+     */
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+        this.thumbnailName = ThumbnailUtil.generateThumbnailFileName(thumbnail, ThumbnailConstants.POST_THUMBNAIL);
     }
 }
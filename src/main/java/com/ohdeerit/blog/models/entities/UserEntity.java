@@ -1,5 +1,6 @@
 package com.ohdeerit.blog.models.entities;
 
+import com.ohdeerit.blog.models.generators.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
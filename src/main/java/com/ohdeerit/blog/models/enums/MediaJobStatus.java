@@ -0,0 +1,8 @@
+package com.ohdeerit.blog.models.enums;
+
+public enum MediaJobStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,5 @@
+package com.ohdeerit.blog.models.enums;
+
+public enum SuggestionType {
+    POST, TAG, CATEGORY
+}
@@ -0,0 +1,6 @@
+package com.ohdeerit.blog.models.events;
+
+public record ContentChangedEvent(
+        String source
+) {
+}
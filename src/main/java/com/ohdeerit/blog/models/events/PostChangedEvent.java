@@ -0,0 +1,8 @@
+package com.ohdeerit.blog.models.events;
+
+import com.ohdeerit.blog.models.dtos.PostDto;
+
+public record PostChangedEvent(
+        PostDto post
+) {
+}
@@ -0,0 +1,23 @@
+package com.ohdeerit.blog.models.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Constructor projection of a media row joined with one of its files, streamed by the export. Media without
+ * files yield a single row with null file columns.
+ */
+public record MediaExportProjection(
+        Integer id,
+        String name,
+        String shortDescription,
+        String shortSlug,
+        String folder,
+        byte type,
+        byte status,
+        LocalDateTime updatedAt,
+        String file,
+        String fileShortDescription,
+        Integer fileSize,
+        Integer filePosition
+) {
+}
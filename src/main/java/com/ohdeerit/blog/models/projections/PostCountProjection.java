@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.models.projections;
+
+import java.util.UUID;
+
+/**
+ * Constructor projection of a category or tag with the number of its published posts.
+ */
+public record PostCountProjection(
+        UUID id,
+        String name,
+        long postCount
+) {
+}
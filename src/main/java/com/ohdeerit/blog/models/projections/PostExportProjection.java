@@ -0,0 +1,27 @@
+package com.ohdeerit.blog.models.projections;
+
+import com.ohdeerit.blog.models.enums.PostStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Constructor projection of a full post row streamed by the export. Tags are loaded per batch of rows.
+ */
+public record PostExportProjection(
+        UUID id,
+        String title,
+        String slug,
+        String shortDescription,
+        String content,
+        String thumbnail,
+        PostStatus status,
+        Integer readingTime,
+        UUID authorId,
+        UUID categoryId,
+        String categoryName,
+        Integer mediaId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.ohdeerit.blog.models.projections;
+
+import com.ohdeerit.blog.models.enums.PostStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Constructor projection of a post row used by list endpoints. Never carries {@code content}, and
+ * {@code thumbnail} is the stored file name of the resized thumbnail.
+ */
+public record PostSummaryProjection(
+        UUID id,
+        String title,
+        String slug,
+        String shortDescription,
+        String thumbnail,
+        PostStatus status,
+        Integer readingTime,
+        LocalDateTime createdAt,
+        UUID categoryId,
+        String categoryName
+) {
+}
@@ -0,0 +1,9 @@
+package com.ohdeerit.blog.models.projections;
+
+import java.util.UUID;
+
+public interface PostTagNameProjection {
+    UUID getPostId();
+
+    String getName();
+}
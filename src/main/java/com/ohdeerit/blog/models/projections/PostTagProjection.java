@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.models.projections;
+
+import java.util.UUID;
+
+/**
+ * Constructor projection of one post_tags row with the tag name.
+ */
+public record PostTagProjection(
+        UUID postId,
+        UUID tagId,
+        String name
+) {
+}
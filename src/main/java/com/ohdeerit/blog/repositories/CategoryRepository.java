@@ -1,19 +1,26 @@
 package com.ohdeerit.blog.repositories;
 
+import com.ohdeerit.blog.models.projections.PostCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.ohdeerit.blog.models.entities.CategoryEntity;
 import org.springframework.data.jpa.repository.Query;
+import com.ohdeerit.blog.models.enums.PostStatus;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<CategoryEntity, UUID> {
 
-    @Query("SELECT c FROM CategoryEntity c LEFT JOIN FETCH c.posts")
-    List<CategoryEntity> findAllWithPostCount();
+    @Query("SELECT new com.ohdeerit.blog.models.projections.PostCountProjection(c.id, c.name, COUNT(p.id)) " +
+            "FROM CategoryEntity c LEFT JOIN c.posts p ON p.status = :status " +
+            "GROUP BY c.id, c.name ORDER BY c.name")
+    List<PostCountProjection> findAllWithPostCount(PostStatus status);
 
     boolean existsByNameIgnoreCase(String name);
 
+    List<CategoryEntity> findByNameIn(Collection<String> names);
+
 }
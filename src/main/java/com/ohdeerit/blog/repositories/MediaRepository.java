@@ -1,14 +1,33 @@
 package com.ohdeerit.blog.repositories;
 
+import com.ohdeerit.blog.models.projections.MediaExportProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import com.ohdeerit.blog.models.entities.MediaEntity;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+
+import java.util.stream.Stream;
 
 @Repository
 public interface MediaRepository extends JpaRepository<MediaEntity, Integer> {
 
     Slice<MediaEntity> findAllBy(Pageable pageable);
 
+    Slice<MediaEntity> findAllByIdLessThan(Integer id, Pageable pageable);
+
+    /**
+     * Media rows are narrow, so their files are joined in and grouped by the caller from consecutive rows.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PostRepository.EXPORT_FETCH_SIZE))
+    @Query("SELECT new com.ohdeerit.blog.models.projections.MediaExportProjection(" +
+            "m.id, m.name, m.shortDescription, m.shortSlug, m.folder, m.type, m.status, m.updatedAt, " +
+            "f.file, f.shortDescription, f.size, f.position) " +
+            "FROM MediaEntity m LEFT JOIN m.mediaFiles f ORDER BY m.id, f.position")
+    Stream<MediaExportProjection> streamAllForExport();
+
 }
@@ -1,25 +1,63 @@
 package com.ohdeerit.blog.repositories;
 
+import com.ohdeerit.blog.models.projections.PostSummaryProjection;
+import com.ohdeerit.blog.models.projections.PostTagNameProjection;
+import com.ohdeerit.blog.models.projections.PostExportProjection;
+import com.ohdeerit.blog.models.projections.PostTagProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import com.ohdeerit.blog.models.entities.CategoryEntity;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.jpa.repository.Query;
 import com.ohdeerit.blog.models.entities.PostEntity;
 import com.ohdeerit.blog.models.entities.TagEntity;
 import com.ohdeerit.blog.models.enums.PostStatus;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
 
+import java.util.stream.Stream;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface PostRepository extends JpaRepository<PostEntity, UUID> {
+
+    String SUMMARY_SELECT = "SELECT new com.ohdeerit.blog.models.projections.PostSummaryProjection(" +
+            "p.id, p.title, p.slug, p.shortDescription, p.thumbnailName, p.status, p.readingTime, p.createdAt, " +
+            "c.id, c.name) FROM PostEntity p JOIN p.category c ";
+
+    String EXPORT_SELECT = "SELECT new com.ohdeerit.blog.models.projections.PostExportProjection(" +
+            "p.id, p.title, p.slug, p.shortDescription, p.content, p.thumbnail, p.status, p.readingTime, " +
+            "p.author.id, c.id, c.name, m.id, p.createdAt, p.updatedAt) " +
+            "FROM PostEntity p JOIN p.category c LEFT JOIN p.media m ";
+
+    /**
+     * Rows fetched per round trip by streaming queries. MySQL only honours it with {@code useCursorFetch}.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    String SEEK_CONDITION = "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))";
+
+    @Override
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
+    Optional<PostEntity> findById(UUID id);
+
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
     Slice<PostEntity> findAllByStatus(PostStatus status, Pageable pageable);
 
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
     Slice<PostEntity> findAllByStatusAndCategory(PostStatus status, CategoryEntity category, Pageable pageable);
 
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
     Slice<PostEntity> findAllByStatusAndTagsContaining(PostStatus status, TagEntity tag, Pageable pageable);
 
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
     Slice<PostEntity> findAllByStatusAndCategoryAndTagsContaining(
             PostStatus status,
             CategoryEntity category,
@@ -27,7 +65,72 @@ public interface PostRepository extends JpaRepository<PostEntity, UUID> {
             Pageable pageable
     );
 
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
     Slice<PostEntity> findAllByAuthorIdAndStatus(UUID authorId, PostStatus status, Pageable pageable);
 
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
     Optional<PostEntity> findBySlug(String slug);
+
+    @EntityGraph(PostEntity.WITH_ASSOCIATIONS_GRAPH)
+    List<PostEntity> findAllBySlugIn(Collection<String> slugs);
+
+    @Query("SELECT p.id FROM PostEntity p WHERE p.slug = :slug")
+    Optional<UUID> findIdBySlug(String slug);
+
+    @Query("SELECT p.slug FROM PostEntity p")
+    List<String> findAllSlugs();
+
+    boolean existsByCategoryId(UUID categoryId);
+
+    boolean existsByTagsId(UUID tagId);
+
+    @Query("SELECT p.updatedAt FROM PostEntity p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(UUID id);
+
+    @Query(SUMMARY_SELECT)
+    Slice<PostSummaryProjection> findAllSummaries(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status")
+    Slice<PostSummaryProjection> findSummariesByStatus(PostStatus status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status AND p.createdAt >= :from AND p.createdAt < :to")
+    Slice<PostSummaryProjection> findSummariesByStatusAndCreatedAtBetween(
+            PostStatus status,
+            LocalDateTime from,
+            LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status AND p.createdAt >= :from AND p.createdAt < :to AND "
+            + SEEK_CONDITION)
+    Slice<PostSummaryProjection> findSummariesByStatusAndCreatedAtBetweenBefore(
+            PostStatus status,
+            LocalDateTime from,
+            LocalDateTime to,
+            LocalDateTime createdAt,
+            UUID id,
+            Pageable pageable
+    );
+
+    @Query(SUMMARY_SELECT + "WHERE " + SEEK_CONDITION)
+    Slice<PostSummaryProjection> findAllSummariesBefore(LocalDateTime createdAt, UUID id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status AND " + SEEK_CONDITION)
+    Slice<PostSummaryProjection> findSummariesByStatusBefore(
+            PostStatus status,
+            LocalDateTime createdAt,
+            UUID id,
+            Pageable pageable
+    );
+
+    @Query("SELECT p.id AS postId, t.name AS name FROM PostEntity p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagNameProjection> findTagNamesByPostIds(Collection<UUID> postIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(EXPORT_SELECT + "ORDER BY p.createdAt, p.id")
+    Stream<PostExportProjection> streamAllForExport();
+
+    @Query("SELECT new com.ohdeerit.blog.models.projections.PostTagProjection(p.id, t.id, t.name) " +
+            "FROM PostEntity p JOIN p.tags t WHERE p.id IN :postIds ORDER BY t.name")
+    List<PostTagProjection> findTagsByPostIds(Collection<UUID> postIds);
 }
@@ -1,18 +1,27 @@
 package com.ohdeerit.blog.repositories;
 
+import com.ohdeerit.blog.models.projections.PostCountProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import com.ohdeerit.blog.models.entities.TagEntity;
+import com.ohdeerit.blog.models.enums.PostStatus;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.UUID;
 import java.util.List;
 
 @Repository
 public interface TagRepository extends JpaRepository<TagEntity, UUID> {
 
-    @Query("SELECT t FROM TagEntity t LEFT JOIN FETCH t.posts")
-    List<TagEntity> findAllWithPostCount();
+    String POST_COUNT_SELECT = "SELECT new com.ohdeerit.blog.models.projections.PostCountProjection(" +
+            "t.id, t.name, COUNT(p.id)) FROM TagEntity t LEFT JOIN t.posts p ON p.status = :status ";
+
+    @Query(POST_COUNT_SELECT + "GROUP BY t.id, t.name ORDER BY t.name")
+    List<PostCountProjection> findAllWithPostCount(PostStatus status);
+
+    @Query(POST_COUNT_SELECT + "WHERE t.name IN :names GROUP BY t.id, t.name ORDER BY t.name")
+    List<PostCountProjection> findAllWithPostCountByNameIn(PostStatus status, Collection<String> names);
 
     List<TagEntity> findByNameIn(List<String> names);
 
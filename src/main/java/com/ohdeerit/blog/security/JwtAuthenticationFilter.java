@@ -9,6 +9,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.ohdeerit.blog.config.SecurityConstants;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.ServletException;
 import lombok.RequiredArgsConstructor;
@@ -54,7 +55,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        addSecurityHeaders(response);
+        addSecurityHeaders(request, response);
 
         filterChain.doFilter(request, response);
     }
@@ -99,14 +100,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         SecurityContextHolder.clearContext();
     }
 
-    private void addSecurityHeaders(HttpServletResponse response) {
+    private void addSecurityHeaders(HttpServletRequest request, HttpServletResponse response) {
         response.setHeader("X-Content-Type-Options", "nosniff");
         response.setHeader("X-Frame-Options", "DENY");
         response.setHeader("X-XSS-Protection", "1; mode=block");
-        response.setHeader("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate");
-        response.setHeader("Pragma", "no-cache");
+
+        // Reads set their own Cache-Control next to the ETag; when a controller does not,
+        // Spring Security falls back to the same no-store defaults
+        if (!isReadRequest(request)) {
+            response.setHeader("Cache-Control", "no-cache, no-store, max-age=0, must-revalidate");
+            response.setHeader("Pragma", "no-cache");
+        }
+
         response.setHeader("Strict-Transport-Security", "max-age=31536000; includeSubDomains");
         response.setHeader("Referrer-Policy", "no-referrer-when-downgrade");
         response.setHeader("Cross-Origin-Resource-Policy", "same-origin");
     }
+
+    private boolean isReadRequest(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
 }
@@ -0,0 +1,106 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.interfaces.ArchiveService;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import com.ohdeerit.blog.models.dtos.ArchiveMonthDto;
+import com.ohdeerit.blog.models.dtos.ArchiveYearDto;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Histogram of published posts by the month of their creation time. Writes update the counts and publish a
+ * new immutable year → month → count view, so the archive sidebar is read without locks or queries.
+ */
+@Slf4j
+@Service
+public class ArchiveServiceImpl implements ArchiveService, PostIndex {
+
+    private Histogram histogram = new Histogram();
+    private volatile List<ArchiveYearDto> archive = List.of();
+
+    private static final class Histogram {
+        private final Map<UUID, YearMonth> postMonths = new HashMap<>();
+        private final NavigableMap<YearMonth, Integer> monthCounts = new TreeMap<>(Comparator.reverseOrder());
+
+        private void put(final PostDto post) {
+            final YearMonth previousMonth = postMonths.remove(post.id());
+            if (previousMonth != null) {
+                monthCounts.computeIfPresent(previousMonth, (month, count) -> count == 1 ? null : count - 1);
+            }
+
+            if (PostStatus.PUBLISHED.equals(post.status()) && post.createdAt() != null) {
+                final YearMonth month = YearMonth.from(post.createdAt());
+
+                postMonths.put(post.id(), month);
+                monthCounts.merge(month, 1, Integer::sum);
+            }
+        }
+
+        private List<ArchiveYearDto> build() {
+            final List<ArchiveYearDto> years = new ArrayList<>();
+            List<ArchiveMonthDto> months = new ArrayList<>();
+            int currentYear = 0;
+            long yearCount = 0;
+
+            for (Map.Entry<YearMonth, Integer> entry : monthCounts.entrySet()) {
+                final int year = entry.getKey().getYear();
+
+                if (!months.isEmpty() && year != currentYear) {
+                    years.add(new ArchiveYearDto(currentYear, yearCount, List.copyOf(months)));
+                    months = new ArrayList<>();
+                    yearCount = 0;
+                }
+
+                currentYear = year;
+                yearCount += entry.getValue();
+                months.add(new ArchiveMonthDto(entry.getKey().getMonthValue(), entry.getValue()));
+            }
+
+            if (!months.isEmpty()) {
+                years.add(new ArchiveYearDto(currentYear, yearCount, List.copyOf(months)));
+            }
+
+            return List.copyOf(years);
+        }
+    }
+
+    @Override
+    public List<ArchiveYearDto> getArchive() {
+        return archive;
+    }
+
+    @Override
+    public synchronized void index(final PostDto post) {
+        histogram.put(post);
+        archive = histogram.build();
+
+        log.debug("[ArchiveService.index] Indexed post '{}' ({})", post.id(), post.status());
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        final Histogram rebuilt = new Histogram();
+
+        return new Rebuild() {
+            @Override
+            public void index(final PostDto post) {
+                rebuilt.put(post);
+            }
+
+            @Override
+            public void publish() {
+                final List<ArchiveYearDto> rebuiltArchive = rebuilt.build();
+
+                synchronized (ArchiveServiceImpl.this) {
+                    histogram = rebuilt;
+                    archive = rebuiltArchive;
+                }
+            }
+        };
+    }
+}
@@ -1,33 +1,40 @@
 package com.ohdeerit.blog.services.impl;
 
 import com.ohdeerit.blog.services.mappers.CategoryServiceMapper;
+import com.ohdeerit.blog.models.projections.PostCountProjection;
+import org.springframework.context.ApplicationEventPublisher;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
 import com.ohdeerit.blog.services.interfaces.CategoryService;
 import com.ohdeerit.blog.repositories.CategoryRepository;
 import com.ohdeerit.blog.models.entities.CategoryEntity;
 import com.ohdeerit.blog.models.dtos.CreateCategoryDto;
 import jakarta.persistence.EntityNotFoundException;
 import com.ohdeerit.blog.models.dtos.CategoryDto;
+import com.ohdeerit.blog.repositories.PostRepository;
+import com.ohdeerit.blog.models.enums.PostStatus;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Optional;
-import java.util.List;
-import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
 
     private final CategoryServiceMapper categoryMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<CategoryDto> getCategories() {
-        List<CategoryEntity> categoryEntities = categoryRepository.findAllWithPostCount();
+        List<PostCountProjection> categories = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
 
-        return categoryEntities.stream().map(categoryMapper::map).toList();
+        return categories.stream().map(categoryMapper::map).toList();
     }
 
     @Override
@@ -47,23 +54,53 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         final CategoryEntity createdCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new ContentChangedEvent("category " + createdCategory.getId()));
 
         return categoryMapper.map(createdCategory);
     }
 
     @Override
-    public void deleteCategory(UUID id) {
+    @Transactional
+    public List<CategoryEntity> getOrCreateCategories(Collection<String> names) {
+        final List<String> categoryNames = names.stream().distinct().toList();
+        if (categoryNames.isEmpty()) {
+            return List.of();
+        }
+
+        final List<CategoryEntity> existingCategories = categoryRepository.findByNameIn(categoryNames);
+
+        final Set<String> existingCategoryNames = existingCategories.stream()
+                .map(CategoryEntity::getName)
+                .collect(Collectors.toSet());
+
+        final List<CategoryEntity> categoriesToCreate = categoryNames.stream()
+                .filter(name -> !existingCategoryNames.contains(name))
+                .map(name -> CategoryEntity.builder().name(name).build())
+                .toList();
 
-        Optional<CategoryEntity> category = categoryRepository.findById(id);
+        if (categoriesToCreate.isEmpty()) {
+            return existingCategories;
+        }
+
+        final List<CategoryEntity> categories = new ArrayList<>(existingCategories);
+        categories.addAll(categoryRepository.saveAll(categoriesToCreate));
+        eventPublisher.publishEvent(new ContentChangedEvent("categories " + categoryNames));
+
+        return categories;
+    }
+
+    @Override
+    public void deleteCategory(UUID id) {
 
-        if (category.isEmpty()) {
+        if (!categoryRepository.existsById(id)) {
             throw new IllegalArgumentException("Category with id " + id + " does not exist");
         }
 
-        if (!category.get().getPosts().isEmpty()) {
+        if (postRepository.existsByCategoryId(id)) {
             throw new IllegalStateException("Category with id " + id + " has posts");
         }
 
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new ContentChangedEvent("category " + id));
     }
 }
@@ -0,0 +1,43 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
+import com.ohdeerit.blog.models.events.PostChangedEvent;
+import com.ohdeerit.blog.config.EventListenerOrder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class ContentVersionServiceImpl implements ContentVersionService {
+
+    // Seeded with the startup time so versions issued before a restart are never reused
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Order(EventListenerOrder.CONTENT_VERSION)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(final PostChangedEvent event) {
+        increment("post " + event.post().id());
+    }
+
+    @Order(EventListenerOrder.CONTENT_VERSION)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(final ContentChangedEvent event) {
+        increment(event.source());
+    }
+
+    private void increment(final String source) {
+        final long newVersion = version.incrementAndGet();
+
+        log.debug("[ContentVersionService.increment] Content version {} after change of {}", newVersion, source);
+    }
+}
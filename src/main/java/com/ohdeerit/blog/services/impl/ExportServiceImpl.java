@@ -0,0 +1,180 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.models.projections.MediaExportProjection;
+import com.ohdeerit.blog.models.projections.PostExportProjection;
+import org.springframework.transaction.annotation.Transactional;
+import com.ohdeerit.blog.models.projections.PostTagProjection;
+import com.ohdeerit.blog.services.interfaces.ExportService;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ohdeerit.blog.repositories.MediaRepository;
+import com.ohdeerit.blog.repositories.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.io.OutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * NDJSON dump of all posts and media. Rows come from forward-only streaming queries and only one batch of
+ * posts is held at a time, so memory use does not grow with the size of the tables.
+ */
+@Slf4j
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final int POST_BATCH_SIZE = 500;
+    private static final byte NEWLINE = '\n';
+
+    private final PostRepository postRepository;
+    private final MediaRepository mediaRepository;
+    private final ObjectWriter recordWriter;
+
+    public ExportServiceImpl(final PostRepository postRepository,
+                             final MediaRepository mediaRepository,
+                             final ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.mediaRepository = mediaRepository;
+        this.recordWriter = objectMapper.copy()
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .writerFor(ExportRecordDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void export(final OutputStream outputStream) throws IOException {
+        final long start = System.currentTimeMillis();
+
+        final long posts = exportPosts(outputStream);
+        final long media = exportMedia(outputStream);
+        outputStream.flush();
+
+        log.info("[ExportService.export] Exported {} posts and {} media in {} ms",
+                posts, media, System.currentTimeMillis() - start);
+    }
+
+    private long exportPosts(final OutputStream outputStream) throws IOException {
+        final List<PostExportProjection> batch = new ArrayList<>(POST_BATCH_SIZE);
+        long exported = 0;
+
+        try (Stream<PostExportProjection> rows = postRepository.streamAllForExport()) {
+            final Iterator<PostExportProjection> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+
+                if (batch.size() == POST_BATCH_SIZE) {
+                    exported += writePosts(batch, outputStream);
+                    batch.clear();
+                }
+            }
+        }
+
+        return exported + writePosts(batch, outputStream);
+    }
+
+    /**
+     * Loads the tags of a whole batch with one query and writes the batch.
+     */
+    private int writePosts(final List<PostExportProjection> batch, final OutputStream outputStream)
+            throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        final List<UUID> postIds = batch.stream().map(PostExportProjection::id).toList();
+        final Map<UUID, List<TagDto>> tagsByPost = postRepository.findTagsByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagProjection::postId,
+                        Collectors.mapping(tag -> new TagDto(tag.tagId(), tag.name(), null), Collectors.toList())
+                ));
+
+        for (PostExportProjection post : batch) {
+            writeRecord(toPostRecord(post, tagsByPost.getOrDefault(post.id(), List.of())), outputStream);
+        }
+
+        return batch.size();
+    }
+
+    /**
+     * Rows arrive ordered by media id, so the files of a media row are consecutive.
+     */
+    private long exportMedia(final OutputStream outputStream) throws IOException {
+        long exported = 0;
+
+        try (Stream<MediaExportProjection> rows = mediaRepository.streamAllForExport()) {
+            final Iterator<MediaExportProjection> iterator = rows.iterator();
+            MediaExportProjection media = null;
+            List<ExportMediaFileDto> files = new ArrayList<>();
+
+            while (iterator.hasNext()) {
+                final MediaExportProjection row = iterator.next();
+
+                if (media != null && !media.id().equals(row.id())) {
+                    writeRecord(toMediaRecord(media, files), outputStream);
+                    exported++;
+                    files = new ArrayList<>();
+                }
+
+                media = row;
+                if (row.file() != null) {
+                    files.add(new ExportMediaFileDto(row.file(), row.fileShortDescription(), row.fileSize(),
+                            row.filePosition()));
+                }
+            }
+
+            if (media != null) {
+                writeRecord(toMediaRecord(media, files), outputStream);
+                exported++;
+            }
+        }
+
+        return exported;
+    }
+
+    private void writeRecord(final ExportRecordDto record, final OutputStream outputStream) throws IOException {
+        recordWriter.writeValue(outputStream, record);
+        outputStream.write(NEWLINE);
+    }
+
+    private static ExportPostDto toPostRecord(final PostExportProjection post, final List<TagDto> tags) {
+        return new ExportPostDto(
+                post.id(),
+                post.title(),
+                post.slug(),
+                post.shortDescription(),
+                post.content(),
+                post.thumbnail(),
+                post.status(),
+                post.readingTime(),
+                post.authorId(),
+                new CategoryDto(post.categoryId(), post.categoryName(), null),
+                tags,
+                post.mediaId(),
+                post.createdAt(),
+                post.updatedAt()
+        );
+    }
+
+    private static ExportMediaDto toMediaRecord(final MediaExportProjection media,
+                                                final List<ExportMediaFileDto> files) {
+        return new ExportMediaDto(
+                media.id(),
+                media.name(),
+                media.shortDescription(),
+                media.shortSlug(),
+                media.folder(),
+                media.type(),
+                media.status(),
+                media.updatedAt(),
+                List.copyOf(files)
+        );
+    }
+}
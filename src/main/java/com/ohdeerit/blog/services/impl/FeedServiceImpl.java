@@ -0,0 +1,337 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.ohdeerit.blog.services.interfaces.CategoryService;
+import org.springframework.beans.factory.annotation.Value;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
+import com.ohdeerit.blog.services.interfaces.FeedService;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import com.ohdeerit.blog.config.EventListenerOrder;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import com.ohdeerit.blog.models.dtos.FeedDto;
+import com.ohdeerit.blog.utils.ETagUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.time.format.DateTimeFormatter;
+import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * RSS feeds and the sitemap of published posts, written with StAX and kept as serialized bytes. A post
+ * change only drops the documents it appears in: the main feed, the sitemap and the feeds of its old and
+ * new category. Dropped documents are regenerated on the next request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedServiceImpl implements FeedService, PostIndex {
+
+    private static final String FEED_KEY = "feed";
+    private static final String SITEMAP_KEY = "sitemap";
+    private static final String CATEGORY_FEED_KEY_PREFIX = "category:";
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    private static final Comparator<FeedEntry> NEWEST_FIRST = Comparator
+            .comparing(FeedEntry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(FeedEntry::id);
+
+    private final CategoryService categoryService;
+
+    @Value("${app.site.url}")
+    private String siteUrl;
+
+    @Value("${app.site.title}")
+    private String siteTitle;
+
+    @Value("${app.feed.max-items}")
+    private int maxItems;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<UUID, FeedEntry> posts = new HashMap<>();
+    private final Map<String, FeedDto> documents = new ConcurrentHashMap<>();
+    private long version = System.currentTimeMillis();
+
+    private record FeedEntry(
+            UUID id,
+            String title,
+            String slug,
+            String description,
+            UUID categoryId,
+            String categoryName,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter writer) throws XMLStreamException;
+    }
+
+    @Override
+    public FeedDto getFeed() {
+        return getDocument(FEED_KEY, () -> renderFeed(siteTitle, siteUrl, siteUrl + "/feed.xml", posts.values()));
+    }
+
+    @Override
+    public FeedDto getCategoryFeed(final UUID categoryId) {
+        return getDocument(CATEGORY_FEED_KEY_PREFIX + categoryId, () -> {
+            final List<FeedEntry> categoryPosts = posts.values().stream()
+                    .filter(post -> categoryId.equals(post.categoryId()))
+                    .toList();
+
+            // A known category without published posts keeps an empty channel; unknown ids throw not found
+            final String categoryName = categoryPosts.isEmpty()
+                    ? categoryService.getCategory(categoryId).getName()
+                    : categoryPosts.getFirst().categoryName();
+
+            return renderFeed(siteTitle + " - " + categoryName, siteUrl,
+                    siteUrl + "/feed/category/" + categoryId + ".xml", categoryPosts);
+        });
+    }
+
+    @Override
+    public FeedDto getSitemap() {
+        return getDocument(SITEMAP_KEY, this::renderSitemap);
+    }
+
+    @Override
+    public void index(final PostDto post) {
+        final FeedEntry entry = PostStatus.PUBLISHED.equals(post.status()) ? toEntry(post) : null;
+
+        lock.writeLock().lock();
+        try {
+            final FeedEntry previous = entry == null ? posts.remove(post.id()) : posts.put(post.id(), entry);
+            if (previous == null && entry == null) {
+                return;
+            }
+
+            version++;
+            documents.remove(FEED_KEY);
+            documents.remove(SITEMAP_KEY);
+
+            if (previous != null) {
+                documents.remove(CATEGORY_FEED_KEY_PREFIX + previous.categoryId());
+            }
+
+            if (entry != null) {
+                documents.remove(CATEGORY_FEED_KEY_PREFIX + entry.categoryId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("[FeedService.index] Invalidated feeds of post '{}' ({})", post.id(), post.status());
+    }
+
+    /**
+     * Category feeds rendered without posts carry the category name from the database, so they are dropped
+     * when categories change.
+     */
+    @Order(EventListenerOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(final ContentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            version++;
+            documents.keySet().removeIf(key -> key.startsWith(CATEGORY_FEED_KEY_PREFIX));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        final Map<UUID, FeedEntry> rebuilt = new HashMap<>();
+
+        return new Rebuild() {
+            @Override
+            public void index(final PostDto post) {
+                if (PostStatus.PUBLISHED.equals(post.status())) {
+                    rebuilt.put(post.id(), toEntry(post));
+                } else {
+                    rebuilt.remove(post.id());
+                }
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    version++;
+                    posts = rebuilt;
+                    documents.clear();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * Renders under the read lock, so a document is never stored after a write that should have dropped it.
+     */
+    private FeedDto getDocument(final String key, final Supplier<byte[]> renderer) {
+        final FeedDto cached = documents.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        lock.readLock().lock();
+        try {
+            final FeedDto current = documents.get(key);
+            if (current != null) {
+                return current;
+            }
+
+            final FeedDto document = new FeedDto(renderer.get(), ETagUtil.of(version));
+            documents.put(key, document);
+
+            log.debug("[FeedService.getDocument] Rendered '{}' ({} bytes)", key, document.body().length);
+            return document;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private byte[] renderFeed(final String title, final String link, final String selfLink,
+                              final Collection<FeedEntry> entries) {
+        final List<FeedEntry> newest = entries.stream().sorted(NEWEST_FIRST).limit(maxItems).toList();
+
+        return renderXml(writer -> {
+            writer.writeStartElement("rss");
+            writer.writeAttribute("version", "2.0");
+            writer.writeNamespace("atom", ATOM_NAMESPACE);
+            writer.writeStartElement("channel");
+
+            writeElement(writer, "title", title);
+            writeElement(writer, "link", link);
+            writeElement(writer, "description", title);
+
+            writer.writeEmptyElement("atom", "link", ATOM_NAMESPACE);
+            writer.writeAttribute("href", selfLink);
+            writer.writeAttribute("rel", "self");
+            writer.writeAttribute("type", "application/rss+xml");
+
+            if (!newest.isEmpty()) {
+                writeElement(writer, "lastBuildDate", formatRfc1123(newest.getFirst().createdAt()));
+            }
+
+            for (FeedEntry entry : newest) {
+                final String postLink = postLink(entry);
+
+                writer.writeStartElement("item");
+                writeElement(writer, "title", entry.title());
+                writeElement(writer, "link", postLink);
+
+                writer.writeStartElement("guid");
+                writer.writeAttribute("isPermaLink", "true");
+                writer.writeCharacters(postLink);
+                writer.writeEndElement();
+
+                writeElement(writer, "description", entry.description());
+                writeElement(writer, "category", entry.categoryName());
+                writeElement(writer, "pubDate", formatRfc1123(entry.createdAt()));
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+            writer.writeEndElement();
+        });
+    }
+
+    private byte[] renderSitemap() {
+        final List<FeedEntry> entries = posts.values().stream().sorted(NEWEST_FIRST).toList();
+
+        return renderXml(writer -> {
+            writer.writeStartElement("urlset");
+            writer.writeDefaultNamespace(SITEMAP_NAMESPACE);
+
+            writer.writeStartElement("url");
+            writeElement(writer, "loc", siteUrl + "/");
+            writer.writeEndElement();
+
+            for (FeedEntry entry : entries) {
+                writer.writeStartElement("url");
+                writeElement(writer, "loc", postLink(entry));
+                if (entry.updatedAt() != null) {
+                    writeElement(writer, "lastmod", entry.updatedAt().toLocalDate().toString());
+                }
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+        });
+    }
+
+    private static byte[] renderXml(final XmlBody body) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(8192);
+
+        try {
+            final XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream,
+                    StandardCharsets.UTF_8.name());
+
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            body.write(writer);
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IllegalStateException("Failed to write XML document", e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private static void writeElement(final XMLStreamWriter writer, final String name, final String value)
+            throws XMLStreamException {
+        if (value == null) {
+            return;
+        }
+
+        writer.writeStartElement(name);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private static String formatRfc1123(final LocalDateTime dateTime) {
+        return dateTime == null
+                ? null
+                : DateTimeFormatter.RFC_1123_DATE_TIME.format(dateTime.atZone(ZoneId.systemDefault()));
+    }
+
+    private String postLink(final FeedEntry entry) {
+        return siteUrl + "/posts/" + entry.slug();
+    }
+
+    private static FeedEntry toEntry(final PostDto post) {
+        return new FeedEntry(
+                post.id(),
+                post.title(),
+                post.slug(),
+                post.shortDescription(),
+                post.category() == null ? null : post.category().id(),
+                post.category() == null ? null : post.category().name(),
+                post.createdAt(),
+                post.updatedAt()
+        );
+    }
+}
@@ -3,6 +3,9 @@ package com.ohdeerit.blog.services.impl;
 import com.ohdeerit.blog.services.interfaces.FileOperationsService;
 import com.ohdeerit.blog.models.dtos.ProcessedImageInfoDto;
 import com.ohdeerit.blog.models.dtos.ProcessedImagesDto;
+import com.ohdeerit.blog.config.ThumbnailConstants;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import com.ohdeerit.blog.utils.ThumbnailUtil;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,21 +36,50 @@ public class FileOperationsServiceImpl implements FileOperationsService {
         }
     }
 
+    /**
+     * Deletes each file with the media thumbnails rendered from it, then the thumbnail and media directories
+     * once they are empty. Directories are never deleted recursively, since uploads started within the same
+     * second share one.
+     */
     public void cleanupFiles(final ProcessedImagesDto processedFiles) {
         if (processedFiles != null && processedFiles.mediaDirectory() != null) {
+            final Path mediaDirectory = processedFiles.mediaDirectory().normalize();
+            final Path thumbnailDirectory = mediaDirectory.resolve("thumbnail");
+
             try {
                 for (ProcessedImageInfoDto fileInfo : processedFiles.processedImages()) {
-                    final Path filePath = processedFiles.mediaDirectory().resolve(fileInfo.filename());
+                    final Path filePath = mediaDirectory.resolve(fileInfo.filename()).normalize();
+                    if (!mediaDirectory.equals(filePath.getParent())) {
+                        log.warn("Skipping cleanup of file outside the media directory: {}", fileInfo.filename());
+                        continue;
+                    }
+
                     Files.deleteIfExists(filePath);
+                    deleteThumbnails(thumbnailDirectory, fileInfo.filename());
                 }
 
-                cleanupDirectory(processedFiles.mediaDirectory());
+                cleanupDirectory(thumbnailDirectory);
+                cleanupDirectory(mediaDirectory);
             } catch (IOException e) {
                 log.warn("Failed to cleanup files: {}", e.getMessage());
             }
         }
     }
 
+    private static void deleteThumbnails(final Path thumbnailDirectory, final String fileName) throws IOException {
+        for (ThumbnailDto thumbnail : ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS) {
+            final String thumbnailName;
+            try {
+                thumbnailName = ThumbnailUtil.generateThumbnailFileName(fileName, thumbnail);
+            } catch (IllegalArgumentException e) {
+                // a name without an extension never got past validation, so it has no thumbnails
+                return;
+            }
+
+            Files.deleteIfExists(thumbnailDirectory.resolve(thumbnailName));
+        }
+    }
+
     public void cleanupDirectory(final Path directory) {
         if (directory != null && Files.exists(directory)) {
             try {
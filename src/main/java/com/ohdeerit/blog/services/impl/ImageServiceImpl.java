@@ -7,23 +7,28 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.beans.factory.annotation.Value;
 import com.ohdeerit.blog.services.interfaces.ImageService;
 import org.springframework.web.multipart.MultipartFile;
-import com.ohdeerit.blog.models.enums.ThumbnailMethod;
-import net.coobird.thumbnailator.geometry.Positions;
+import com.ohdeerit.blog.utils.ThumbnailRendererUtil;
 import com.ohdeerit.blog.utils.FileOperationsUtil;
+import com.ohdeerit.blog.utils.ImageDecoderUtil;
 import com.ohdeerit.blog.models.dtos.ThumbnailDto;
 import com.ohdeerit.blog.models.dtos.SaveImageDto;
 import org.springframework.stereotype.Service;
-import net.coobird.thumbnailator.Thumbnails;
 import lombok.extern.slf4j.Slf4j;
 
+import java.security.NoSuchAlgorithmException;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
 import javax.imageio.ImageIO;
+import java.io.OutputStream;
+import java.io.InputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HexFormat;
 import java.util.Objects;
-import java.awt.*;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -33,114 +38,101 @@ public class ImageServiceImpl implements ImageService {
     @Value("${app.media.max-file-size}")
     private long maxFileSize;
 
+    /**
+     * Validates the part from its headers, then streams it to its final name, hashing it in the same pass.
+     * Thumbnails are decoded from the stored file, so the upload is never held on the heap as a byte array.
+     */
     @Override
     public String saveImage(final SaveImageDto saveImageDto) {
-        try {
-            final MultipartFile originalFile = saveImageDto.originalFile();
-            final Path uploadDirectoryPath = saveImageDto.uploadDirectory();
-
-            final byte[] originalFileBytes = originalFile.getBytes();
+        final MultipartFile originalFile = saveImageDto.originalFile();
+        final Path uploadDirectoryPath = saveImageDto.uploadDirectory();
 
-            FileOperationsUtil.validateFile(originalFile, maxFileSize);
-
-            final String originalFileName = originalFile.getOriginalFilename();
-            if (Objects.isNull(originalFileName)) {
-                throw new IllegalArgumentException("Original filename cannot be null");
-            }
+        FileOperationsUtil.validateFile(originalFile, maxFileSize);
 
-            final String extension = getFileExtension(originalFileName);
+        final String originalFileName = originalFile.getOriginalFilename();
+        final Path originalPath = uploadDirectoryPath.resolve(originalFileName);
 
-            if (!Objects.isNull(saveImageDto.thumbnails())) {
-                for (ThumbnailDto thumbnailDto : saveImageDto.thumbnails()) {
-                    final String hashedFileName = generateImageMd5Hash(originalFileName, thumbnailDto);
-                    final BufferedImage thumbnail = createThumbnailImage(originalFileBytes, thumbnailDto);
-
-                    final String fullHashedFileName = hashedFileName + "." + extension;
-                    final Path thumbnailPath = uploadDirectoryPath.resolve("thumbnail").resolve(fullHashedFileName);
+        try {
+            final String contentHash = storeFile(originalFile, originalPath);
 
-                    ImageIO.write(thumbnail, extension, thumbnailPath.toFile());
+            log.info("[ImageServiceImpl.saveImage] Saved original file: {} (sha-256 {})",
+                    originalFileName, contentHash);
 
-                    log.info("[ImageServiceImpl.createThumbnail] Created thumbnail: {} -> {}",
-                            originalFileName, fullHashedFileName);
-                }
+            if (!Objects.isNull(saveImageDto.thumbnails()) && !saveImageDto.thumbnails().isEmpty()) {
+                createThumbnails(originalPath, originalFileName, saveImageDto.thumbnails(),
+                        uploadDirectoryPath.resolve("thumbnail"));
             }
 
-            final Path originalPath = uploadDirectoryPath.resolve(originalFileName);
-
-            Files.write(originalPath, originalFileBytes);
-
-            log.info("[ImageServiceImpl.createThumbnail] Saved original file: {}", originalFileName);
-
             return originalFileName;
         } catch (Exception e) {
-            log.error("[ImageServiceImpl.createThumbnail] Failed to create thumbnail for file: {}", saveImageDto.originalFile().getOriginalFilename(), e);
-            throw new RuntimeException("Failed to create thumbnail", e);
+            log.error("[ImageServiceImpl.saveImage] Failed to save image: {}", originalFileName, e);
+            deleteQuietly(originalPath);
+            deleteThumbnails(originalFileName, saveImageDto.thumbnails(), uploadDirectoryPath.resolve("thumbnail"));
+            throw new RuntimeException("Failed to save image", e);
         }
     }
 
-    private BufferedImage createThumbnailImage(final byte[] fileBytes, final ThumbnailDto thumbnailDto) throws IOException {
-
-        final BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(fileBytes));
-        final int width = thumbnailDto.width();
-        final int height = thumbnailDto.height();
-        final ThumbnailMethod method = thumbnailDto.method();
-        final int percent = thumbnailDto.percent();
-
-        if (originalImage == null) {
-            throw new IOException("Could not read image from file");
+    /**
+     * Copies the part to a temporary file beside the target and moves it into place, so a partial upload is
+     * never visible under its final name. Returns the hex SHA-256 of the content.
+     */
+    private static String storeFile(final MultipartFile file, final Path target)
+            throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        final Path temporaryFile = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest);
+             OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+            inputStream.transferTo(outputStream);
+        } catch (IOException e) {
+            deleteQuietly(temporaryFile);
+            throw e;
         }
 
-        return switch (method) {
-            case CROP -> cropImage(originalImage, width, height);
-            case FILL -> fillImage(originalImage, width, height);
-            case RESIZE, ADAPTIVE -> resizeImage(originalImage, width, height);
-            case PERCENT -> resizePercentImage(originalImage, percent);
-        };
-    }
-
-    private BufferedImage resizeImage(final BufferedImage original, final int width, final int height)
-            throws IOException {
-
-        return Thumbnails.of(original).forceSize(width, height).asBufferedImage();
-    }
-
-    private BufferedImage resizePercentImage(final BufferedImage original, final int percent) throws IOException {
-        double scale = percent / 100.0;
+        Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
 
-        return Thumbnails.of(original).scale(scale).asBufferedImage();
+        return HexFormat.of().formatHex(digest.digest());
     }
 
-    private BufferedImage cropImage(final BufferedImage original, final int targetWidth, final int targetHeight)
+    private static void createThumbnails(final Path originalPath, final String originalFileName,
+                                         final List<ThumbnailDto> thumbnailDtos, final Path thumbnailDirectory)
             throws IOException {
-        return Thumbnails.of(original).size(targetWidth, targetHeight).crop(Positions.CENTER).asBufferedImage();
-    }
-
-    private BufferedImage fillImage(final BufferedImage original, final int targetWidth, final int targetHeight)
-            throws IOException {
-        int originalWidth = original.getWidth();
-        int originalHeight = original.getHeight();
-
-        double scaleX = (double) targetWidth / originalWidth;
-        double scaleY = (double) targetHeight / originalHeight;
-        double scale = Math.min(scaleX, scaleY);
+        final String extension = getFileExtension(originalFileName);
+        final List<BufferedImage> thumbnails = ThumbnailRendererUtil.render(
+                ImageDecoderUtil.decode(originalPath, thumbnailDtos), thumbnailDtos);
 
-        int scaledWidth = (int) (originalWidth * scale);
-        int scaledHeight = (int) (originalHeight * scale);
+        for (int i = 0; i < thumbnailDtos.size(); i++) {
+            final String hashedFileName = generateImageMd5Hash(originalFileName, thumbnailDtos.get(i));
 
-        BufferedImage resized = Thumbnails.of(original).size(scaledWidth, scaledHeight).asBufferedImage();
+            final String fullHashedFileName = hashedFileName + "." + extension;
+            final Path thumbnailPath = thumbnailDirectory.resolve(fullHashedFileName);
 
-        BufferedImage canvas = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = canvas.createGraphics();
+            ImageIO.write(thumbnails.get(i), extension, thumbnailPath.toFile());
 
-        g2d.setColor(Color.WHITE);
-        g2d.fillRect(0, 0, targetWidth, targetHeight);
+            log.info("[ImageServiceImpl.createThumbnail] Created thumbnail: {} -> {}",
+                    originalFileName, fullHashedFileName);
+        }
+    }
 
-        int x = (targetWidth - scaledWidth) / 2;
-        int y = (targetHeight - scaledHeight) / 2;
+    /**
+     * Removes the thumbnails already written for a file whose processing failed.
+     */
+    private static void deleteThumbnails(final String originalFileName, final List<ThumbnailDto> thumbnailDtos,
+                                         final Path thumbnailDirectory) {
+        if (Objects.isNull(thumbnailDtos)) {
+            return;
+        }
 
-        g2d.drawImage(resized, x, y, null);
-        g2d.dispose();
+        for (ThumbnailDto thumbnailDto : thumbnailDtos) {
+            deleteQuietly(thumbnailDirectory.resolve(generateThumbnailFileName(originalFileName, thumbnailDto)));
+        }
+    }
 
-        return canvas;
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[ImageServiceImpl.deleteQuietly] Failed to delete {}", path, e);
+        }
     }
 }
@@ -0,0 +1,320 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ohdeerit.blog.services.interfaces.PostIndexingService;
+import com.ohdeerit.blog.services.interfaces.PostCacheService;
+import com.ohdeerit.blog.services.interfaces.PostSlugService;
+import com.ohdeerit.blog.services.interfaces.CategoryService;
+import org.springframework.context.ApplicationEventPublisher;
+import com.ohdeerit.blog.services.interfaces.ImportService;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
+import com.ohdeerit.blog.repositories.PostMediaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ohdeerit.blog.services.interfaces.TagService;
+import com.ohdeerit.blog.repositories.MediaRepository;
+import com.ohdeerit.blog.repositories.PostRepository;
+import com.ohdeerit.blog.repositories.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.stereotype.Service;
+import jakarta.persistence.PersistenceContext;
+import com.ohdeerit.blog.models.entities.*;
+import jakarta.persistence.EntityManager;
+import com.ohdeerit.blog.utils.SlugUtil;
+import com.ohdeerit.blog.models.dtos.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.io.InputStreamReader;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Bulk upsert of posts from the NDJSON export format. Each batch of posts is written in its own transaction
+ * with JDBC batching, then flushed and cleared, so the persistence context never grows past one batch and a
+ * failure keeps the batches committed before it. Search and listing indexes are rebuilt once at the end
+ * instead of once per post.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportServiceImpl implements ImportService {
+
+    @Value("${app.import.batch-size}")
+    private int batchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final PostCacheService postCacheService;
+    private final PostIndexingService postIndexingService;
+    private final PostSlugService postSlugService;
+
+    private final PostRepository postRepository;
+    private final PostMediaRepository postMediaRepository;
+    private final MediaRepository mediaRepository;
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private record BatchResult(int created, Map<UUID, String> updatedSlugs, int duplicates) {
+    }
+
+    @Override
+    public ImportProgressDto importRecords(final InputStream inputStream, final UUID userId,
+                                           final Consumer<ImportProgressDto> progress) {
+        final long start = System.currentTimeMillis();
+        final List<ExportPostDto> batch = new ArrayList<>(batchSize);
+        long lines = 0;
+        long created = 0;
+        long updated = 0;
+        long skipped = 0;
+        String error = null;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                lines++;
+                if (readRecord(line, lines) instanceof ExportPostDto post) {
+                    batch.add(post);
+                } else {
+                    skipped++;
+                }
+
+                if (batch.size() == batchSize) {
+                    checkCancelled(lines);
+                    final BatchResult result = importBatch(batch, userId);
+                    created += result.created();
+                    updated += result.updatedSlugs().size();
+                    skipped += result.duplicates();
+                    batch.clear();
+
+                    progress.accept(new ImportProgressDto(lines, created, updated, skipped, false, null));
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                checkCancelled(lines);
+                final BatchResult result = importBatch(batch, userId);
+                created += result.created();
+                updated += result.updatedSlugs().size();
+                skipped += result.duplicates();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            log.warn("[ImportService.importRecords] Import stopped after {} lines", lines, e);
+            error = e.getMessage();
+        } finally {
+            if (created + updated > 0) {
+                eventPublisher.publishEvent(new ContentChangedEvent("import"));
+                postIndexingService.reindexAll();
+            }
+        }
+
+        log.info("[ImportService.importRecords] Imported {} lines ({} created, {} updated, {} skipped) in {} ms",
+                lines, created, updated, skipped, System.currentTimeMillis() - start);
+
+        final ImportProgressDto summary = new ImportProgressDto(lines, created, updated, skipped, true, error);
+        progress.accept(summary);
+
+        return summary;
+    }
+
+    /**
+     * The container interrupts the request task when the request times out or the client goes away. The flag is
+     * cleared here, so the final reindex can still get database connections.
+     */
+    private static void checkCancelled(final long lines) {
+        if (Thread.interrupted()) {
+            throw new CancellationException("Import cancelled after " + lines + " lines");
+        }
+    }
+
+    private ExportRecordDto readRecord(final String line, final long lineNumber) {
+        try {
+            return objectMapper.readValue(line, ExportRecordDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid record on line " + lineNumber + ": "
+                    + e.getOriginalMessage());
+        }
+    }
+
+    private BatchResult importBatch(final List<ExportPostDto> batch, final UUID userId) {
+        final Map<String, ExportPostDto> postsBySlug = slugPosts(batch);
+
+        final BatchResult result = transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+            final BatchResult batchResult = upsertPosts(postsBySlug, userId, batch.size() - postsBySlug.size());
+
+            entityManager.flush();
+            entityManager.clear();
+
+            return batchResult;
+        });
+
+        // Evicted after commit, so a concurrent read cannot cache the old post again
+        result.updatedSlugs().forEach(postCacheService::evict);
+
+        log.debug("[ImportService.importBatch] Imported batch of {} posts ({} created, {} updated)",
+                postsBySlug.size(), result.created(), result.updatedSlugs().size());
+
+        return result;
+    }
+
+    private BatchResult upsertPosts(final Map<String, ExportPostDto> postsBySlug, final UUID userId,
+                                    final int duplicates) {
+        final Collection<ExportPostDto> posts = postsBySlug.values();
+
+        final Map<String, CategoryEntity> categories = categoryService.getOrCreateCategories(posts.stream()
+                        .map(ImportServiceImpl::requireCategoryName)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(CategoryEntity::getName, Function.identity()));
+
+        final Map<String, TagEntity> tags = tagService.getOrCreateTags(posts.stream()
+                        .filter(post -> post.tags() != null)
+                        .flatMap(post -> post.tags().stream().map(TagDto::name))
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(TagEntity::getName, Function.identity()));
+
+        final Map<UUID, UserEntity> authors = userRepository.findAllById(posts.stream()
+                        .map(ExportPostDto::authorId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+
+        final Map<Integer, MediaEntity> media = mediaRepository.findAllById(posts.stream()
+                        .map(ExportPostDto::mediaId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(MediaEntity::getId, Function.identity()));
+
+        final Map<String, PostEntity> existingPosts = postRepository.findAllBySlugIn(postsBySlug.keySet()).stream()
+                .collect(Collectors.toMap(PostEntity::getSlug, Function.identity()));
+
+        final UserEntity importingUser = entityManager.getReference(UserEntity.class, userId);
+        final List<PostEntity> newPosts = new ArrayList<>();
+        final Map<UUID, String> updatedSlugs = new HashMap<>();
+
+        for (Map.Entry<String, ExportPostDto> slugPost : postsBySlug.entrySet()) {
+            final ExportPostDto post = slugPost.getValue();
+            final PostEntity existingPost = existingPosts.get(slugPost.getKey());
+            final PostEntity entity = existingPost != null ? existingPost : new PostEntity();
+
+            entity.setTitle(post.title());
+            entity.setSlug(slugPost.getKey());
+            entity.setShortDescription(Objects.requireNonNullElse(post.shortDescription(), ""));
+            entity.setContent(Objects.requireNonNullElse(post.content(), ""));
+            entity.setThumbnail(Objects.requireNonNullElse(post.thumbnail(), ""));
+            entity.setStatus(Objects.requireNonNullElse(post.status(), PostStatus.DRAFT));
+            entity.setCategory(categories.get(post.category().name()));
+            entity.setTags(post.tags() == null
+                    ? new HashSet<>()
+                    : post.tags().stream().map(tag -> tags.get(tag.name())).collect(Collectors.toSet()));
+
+            final MediaEntity postMedia = post.mediaId() == null ? null : media.get(post.mediaId());
+            if (existingPost != null && existingPost.getMedia() != null && existingPost.getMedia() != postMedia) {
+                postMediaRepository.deleteByPostId(existingPost.getId());
+                postMediaRepository.flush();
+            }
+            entity.setMedia(postMedia);
+
+            if (existingPost != null) {
+                updatedSlugs.put(existingPost.getId(), existingPost.getSlug());
+                continue;
+            }
+
+            entity.setAuthor(authors.getOrDefault(post.authorId(), importingUser));
+            entity.setCreatedAt(post.createdAt());
+            entity.setUpdatedAt(post.updatedAt());
+            newPosts.add(entity);
+        }
+
+        postRepository.saveAll(newPosts);
+
+        return new BatchResult(newPosts.size(), updatedSlugs, duplicates);
+    }
+
+    /**
+     * Keys the posts of a batch by slug. Posts with a slug keep it, and it is registered as taken; posts
+     * without one get a unique slug reserved from their title, so they are always created. Every slug and title
+     * is checked before any slug is registered, so a rejected batch leaves no slugs taken. When several posts
+     * share a slug the last one wins, and the others are counted as skipped by the caller.
+     */
+    private Map<String, ExportPostDto> slugPosts(final List<ExportPostDto> batch) {
+        final List<ExportPostDto> unslugged = new ArrayList<>();
+        final Map<String, ExportPostDto> postsBySlug = new LinkedHashMap<>();
+
+        for (ExportPostDto post : batch) {
+            if (post.slug() == null || post.slug().isBlank()) {
+                unslugged.add(requireTitle(post));
+                continue;
+            }
+
+            if (postsBySlug.put(requireSlug(post), post) != null) {
+                log.debug("[ImportService.slugPosts] Skipping earlier post with duplicate slug '{}'", post.slug());
+            }
+        }
+
+        postsBySlug.keySet().forEach(postSlugService::register);
+
+        final List<String> reservedSlugs = postSlugService.reserveAll(unslugged.stream()
+                .map(ExportPostDto::title)
+                .toList());
+
+        for (int i = 0; i < unslugged.size(); i++) {
+            postsBySlug.put(reservedSlugs.get(i), unslugged.get(i));
+        }
+
+        return postsBySlug;
+    }
+
+    private static String requireSlug(final ExportPostDto post) {
+        if (!SlugUtil.isSlug(post.slug(), PostEntity.SLUG_LENGTH)) {
+            throw new IllegalArgumentException("Post '" + post.title() + "' has an invalid slug '"
+                    + post.slug() + "'");
+        }
+
+        return post.slug();
+    }
+
+    private static ExportPostDto requireTitle(final ExportPostDto post) {
+        if (post.title() == null || post.title().isBlank()) {
+            throw new IllegalArgumentException("Post without a slug has no title");
+        }
+
+        return post;
+    }
+
+    private static String requireCategoryName(final ExportPostDto post) {
+        if (post.category() == null || post.category().name() == null) {
+            throw new IllegalArgumentException("Post '" + post.title() + "' has no category");
+        }
+
+        return post.category().name();
+    }
+}
@@ -0,0 +1,229 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.interfaces.FileOperationsService;
+import com.ohdeerit.blog.services.interfaces.MediaJobService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohdeerit.blog.services.interfaces.MediaService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.multipart.MultipartFile;
+import com.ohdeerit.blog.models.enums.MediaJobStatus;
+import com.ohdeerit.blog.models.dtos.CreateMediaDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ohdeerit.blog.utils.FileOperationsUtil;
+import jakarta.persistence.EntityNotFoundException;
+import com.ohdeerit.blog.models.dtos.MediaJobDto;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.MediaDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.UnaryOperator;
+import java.util.concurrent.TimeUnit;
+import java.time.LocalDateTime;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.Set;
+
+/**
+ * Media uploads created in the background. The request only validates the files and moves them to a staging
+ * directory, so it returns before any thumbnail is rendered. Job states live in memory and are dropped a
+ * while after their last change. Staged files are swept on startup and periodically, so a job lost with the
+ * process leaves nothing behind.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaJobServiceImpl implements MediaJobService {
+
+    private final MediaService mediaService;
+    private final FileOperationsService fileOperationsService;
+
+    @Value("${app.media.max-file-size}")
+    private long maxFileSize;
+
+    @Value("${app.media.staging-dir}")
+    private String stagingDirectory;
+
+    @Value("${app.media.jobs.workers}")
+    private int workers;
+
+    @Value("${app.media.jobs.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${app.media.jobs.retention}")
+    private Duration retention;
+
+    private ThreadPoolExecutor jobExecutor;
+    private Cache<UUID, MediaJobDto> jobs;
+
+    /**
+     * Jobs whose staging directory is in use, tracked apart from {@code jobs} because a job state may expire
+     * before the job runs.
+     */
+    private final Set<UUID> stagedJobs = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    private void init() throws IOException {
+        Files.createDirectories(Paths.get(stagingDirectory));
+        sweepStaging();
+
+        jobs = Caffeine.newBuilder().expireAfterWrite(retention).build();
+        jobExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("media-job-", 1).daemon(true).factory());
+
+        log.info("[MediaJobService.init] {} media job workers, staging in '{}'", workers, stagingDirectory);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        jobExecutor.shutdown();
+    }
+
+    /**
+     * Deletes the staging directories of jobs that no longer exist, such as those queued when the process
+     * last stopped.
+     */
+    @Scheduled(fixedDelayString = "${app.media.jobs.staging-sweep-interval}",
+            initialDelayString = "${app.media.jobs.staging-sweep-interval}")
+    void sweepStaging() {
+        try (var jobDirectories = Files.list(Paths.get(stagingDirectory))) {
+            for (Path jobDirectory : jobDirectories.filter(Files::isDirectory).toList()) {
+                if (!isStaged(jobDirectory)) {
+                    log.info("[MediaJobService.sweepStaging] Deleting orphaned staging directory {}", jobDirectory);
+                    deleteStaging(jobDirectory);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[MediaJobService.sweepStaging] Failed to sweep {}", stagingDirectory, e);
+        }
+    }
+
+    private boolean isStaged(final Path jobDirectory) {
+        try {
+            return stagedJobs.contains(UUID.fromString(jobDirectory.getFileName().toString()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public MediaJobDto submit(final CreateMediaDto createMediaDto) {
+        for (MultipartFile file : createMediaDto.files()) {
+            FileOperationsUtil.validateFile(file, maxFileSize);
+        }
+
+        final UUID id = UUID.randomUUID();
+        final Path jobDirectory = Paths.get(stagingDirectory).resolve(id.toString());
+
+        stagedJobs.add(id);
+        final MultipartFile[] stagedFiles;
+        try {
+            stagedFiles = stage(createMediaDto.files(), jobDirectory);
+        } catch (IllegalStateException e) {
+            stagedJobs.remove(id);
+            throw e;
+        }
+
+        final CreateMediaDto stagedMediaDto = new CreateMediaDto(createMediaDto.shortDescription(),
+                createMediaDto.status(), stagedFiles);
+
+        final LocalDateTime now = LocalDateTime.now();
+        final MediaJobDto job = new MediaJobDto(id, MediaJobStatus.QUEUED, stagedMediaDto.files().length, 0,
+                null, null, now, now);
+
+        jobs.put(id, job);
+
+        try {
+            jobExecutor.execute(() -> run(id, stagedMediaDto, jobDirectory));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(id);
+            deleteStaging(jobDirectory);
+            stagedJobs.remove(id);
+            throw new IllegalStateException("Too many media uploads are being processed, try again later");
+        }
+
+        log.info("[MediaJobService.submit] Queued media job '{}' with {} files", id, job.totalFiles());
+
+        return job;
+    }
+
+    @Override
+    public MediaJobDto getJob(final UUID id) {
+        final MediaJobDto job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new EntityNotFoundException("No media job found with id: " + id);
+        }
+
+        return job;
+    }
+
+    private MultipartFile[] stage(final MultipartFile[] files, final Path jobDirectory) {
+        final MultipartFile[] stagedFiles = new MultipartFile[files.length];
+
+        try {
+            Files.createDirectories(jobDirectory);
+
+            for (int i = 0; i < files.length; i++) {
+                stagedFiles[i] = StagedMultipartFile.stage(files[i], jobDirectory.resolve(String.valueOf(i)));
+            }
+        } catch (IOException e) {
+            deleteStaging(jobDirectory);
+            throw new IllegalStateException("Failed to stage media files: " + e.getMessage(), e);
+        }
+
+        return stagedFiles;
+    }
+
+    private void run(final UUID id, final CreateMediaDto createMediaDto, final Path jobDirectory) {
+        update(id, job -> withStatus(job, MediaJobStatus.PROCESSING, job.processedFiles(), null, null));
+
+        try {
+            final MediaDto media = mediaService.createMedia(createMediaDto, processed ->
+                    update(id, job -> withStatus(job, MediaJobStatus.PROCESSING, processed, null, null)));
+
+            update(id, job -> withStatus(job, MediaJobStatus.COMPLETED, job.totalFiles(), media, null));
+
+            log.info("[MediaJobService.run] Media job '{}' created media {}", id, media.id());
+        } catch (RuntimeException e) {
+            log.error("[MediaJobService.run] Media job '{}' failed", id, e);
+            update(id, job -> withStatus(job, MediaJobStatus.FAILED, job.processedFiles(), null, e.getMessage()));
+        } finally {
+            deleteStaging(jobDirectory);
+            stagedJobs.remove(id);
+        }
+    }
+
+    private void update(final UUID id, final UnaryOperator<MediaJobDto> change) {
+        jobs.asMap().computeIfPresent(id, (key, job) -> change.apply(job));
+    }
+
+    private static MediaJobDto withStatus(final MediaJobDto job, final MediaJobStatus status,
+                                          final int processedFiles, final MediaDto media, final String error) {
+        return new MediaJobDto(job.id(), status, job.totalFiles(), Math.max(job.processedFiles(), processedFiles),
+                media, error, job.createdAt(), LocalDateTime.now());
+    }
+
+    private void deleteStaging(final Path jobDirectory) {
+        try (var stagedFiles = Files.list(jobDirectory)) {
+            for (Path stagedFile : stagedFiles.toList()) {
+                Files.deleteIfExists(stagedFile);
+            }
+        } catch (IOException e) {
+            log.warn("[MediaJobService.deleteStaging] Failed to delete staged files in {}", jobDirectory, e);
+        }
+
+        fileOperationsService.cleanupDirectory(jobDirectory);
+    }
+}
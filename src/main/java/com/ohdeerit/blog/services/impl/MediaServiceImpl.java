@@ -2,11 +2,14 @@ package com.ohdeerit.blog.services.impl;
 
 import com.ohdeerit.blog.services.interfaces.FileOperationsService;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.ohdeerit.blog.services.mappers.MediaServiceMapper;
 import com.ohdeerit.blog.services.interfaces.ImageService;
 import com.ohdeerit.blog.services.interfaces.MediaService;
 import com.ohdeerit.blog.repositories.MediaFileRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
 import com.ohdeerit.blog.models.entities.MediaFileEntity;
 import org.springframework.web.multipart.MultipartFile;
 import com.ohdeerit.blog.repositories.MediaRepository;
@@ -16,10 +19,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Slice;
 import com.ohdeerit.blog.models.dtos.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.concurrent.*;
 import java.time.LocalDateTime;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -36,12 +44,56 @@ public class MediaServiceImpl implements MediaService {
     private final MediaServiceMapper mediaMapper;
     private final FileOperationsService fileOperationsService;
     private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${app.media.upload-dir}")
     private String uploadDirectory;
 
+    @Value("${app.media.processing.threads}")
+    private int processingThreads;
+
+    @Value("${app.media.processing.queue-capacity}")
+    private int processingQueueCapacity;
+
+    @Value("${app.media.processing.max-parallel-per-upload}")
+    private int maxParallelPerUpload;
+
+    private ExecutorService imageExecutor;
+
     private static final DateTimeFormatter DIRECTORY_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss");
 
+    /**
+     * Image processing pool shared by all uploads. When its queue is full the uploading thread saves the file
+     * itself, which throttles further submissions instead of failing the upload. Once the pool is shut down
+     * submissions are rejected, so an upload fails rather than waiting on a file that will never be saved.
+     */
+    @PostConstruct
+    private void init() {
+        final int threads = processingThreads > 0 ? processingThreads : Runtime.getRuntime().availableProcessors();
+
+        imageExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(processingQueueCapacity),
+                Thread.ofPlatform().name("image-processing-", 1).daemon(true).factory(),
+                MediaServiceImpl::runOnCaller);
+
+        log.info("[MediaServiceImpl.init] Image processing with {} threads, {} per upload",
+                threads, maxParallelPerUpload);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        imageExecutor.shutdown();
+    }
+
+    private static void runOnCaller(final Runnable task, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Image processing is shut down");
+        }
+
+        task.run();
+    }
+
     @Override
     public MediaEntity getMedia(final Integer id) {
 
@@ -58,16 +110,33 @@ public class MediaServiceImpl implements MediaService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public Slice<MediaDto> getMediaBefore(final Integer id, final Pageable pageable) {
+        final Slice<MediaEntity> mediaEntities = mediaRepository.findAllByIdLessThan(id, pageable);
+
+        return mediaMapper.mapToMediaDtos(mediaEntities);
+    }
+
+    @Override
     public MediaDto createMedia(final CreateMediaDto createMediaDto) {
+        return createMedia(createMediaDto, processed -> {
+        });
+    }
+
+    /**
+     * Images are processed before the transaction starts, so no connection is held while thumbnails render.
+     */
+    @Override
+    public MediaDto createMedia(final CreateMediaDto createMediaDto, final IntConsumer progress) {
         final MultipartFile[] files = createMediaDto.files();
 
         final String mediaDirectory = LocalDateTime.now().format(DIRECTORY_NAME_FORMATTER);
 
-        final ProcessedImagesDto processedFiles = processImages(files, mediaDirectory);
+        final ProcessedImagesDto processedFiles = processImages(files, mediaDirectory, progress);
 
         try {
-            return saveToDatabase(mediaDirectory, createMediaDto, processedFiles);
+            return transactionTemplate.execute(status ->
+                    saveToDatabase(mediaDirectory, createMediaDto, processedFiles));
         } catch (Exception e) {
             log.error("Database operation failed, cleaning up files: {}", e.getMessage());
             fileOperationsService.cleanupFiles(processedFiles);
@@ -75,27 +144,97 @@ public class MediaServiceImpl implements MediaService {
         }
     }
 
-    private ProcessedImagesDto processImages(final MultipartFile[] files, final String mediaDirectory) {
-        Path mediaDirectoryPath = null;
-        List<ProcessedImageInfoDto> processedFiles = new ArrayList<>();
+    /**
+     * Saves the files on the shared image executor and collects them in upload order. One upload keeps at
+     * most {@code maxParallelPerUpload} files in flight, so a large gallery cannot take every thread.
+     */
+    private ProcessedImagesDto processImages(final MultipartFile[] files, final String mediaDirectory,
+                                             final IntConsumer progress) {
+        final Path mediaDirectoryPath;
         try {
             mediaDirectoryPath = fileOperationsService.createMediaDirectory(uploadDirectory, mediaDirectory);
+        } catch (IOException e) {
+            log.error("Failed to process files: {}", e.getMessage());
+            throw new IllegalStateException("Failed to process media files: " + e.getMessage(), e);
+        }
+
+        final Semaphore uploadSlots = new Semaphore(maxParallelPerUpload);
+        final AtomicInteger savedCount = new AtomicInteger();
+        final List<Future<ProcessedImageInfoDto>> results = new ArrayList<>(files.length);
 
+        try {
             for (MultipartFile file : files) {
-                final String fileName = imageService.saveImage(
-                        new SaveImageDto(file, mediaDirectoryPath, ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS)
-                );
+                uploadSlots.acquire();
+                results.add(imageExecutor.submit(() -> {
+                    try {
+                        final String fileName = imageService.saveImage(
+                                new SaveImageDto(file, mediaDirectoryPath, ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS)
+                        );
+
+                        progress.accept(savedCount.incrementAndGet());
+
+                        return new ProcessedImageInfoDto(fileName, (int) file.getSize());
+                    } finally {
+                        uploadSlots.release();
+                    }
+                }));
+            }
 
-                processedFiles.add(new ProcessedImageInfoDto(fileName, (int) file.getSize()));
+            final List<ProcessedImageInfoDto> processedFiles = new ArrayList<>(files.length);
+            for (Future<ProcessedImageInfoDto> result : results) {
+                processedFiles.add(result.get());
             }
 
             return new ProcessedImagesDto(mediaDirectoryPath, processedFiles);
+        } catch (ExecutionException e) {
+            cleanupAfterFailure(mediaDirectoryPath, files, results);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to process media files: " + e.getCause().getMessage(), e);
+        } catch (InterruptedException e) {
+            cleanupAfterFailure(mediaDirectoryPath, files, results);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Media processing was interrupted", e);
+        } catch (RuntimeException e) {
+            cleanupAfterFailure(mediaDirectoryPath, files, results);
+            throw e;
+        }
+    }
 
-        } catch (IOException e) {
-            log.error("Failed to process files: {}", e.getMessage());
-            fileOperationsService.cleanupDirectory(mediaDirectoryPath);
-            throw new IllegalStateException("Failed to process media files: " + e.getMessage(), e);
+    /**
+     * Drops the files that have not started and waits for the running ones so none is written after cleanup.
+     * Every file that started is removed, the failed ones too, since they may have left an original or
+     * thumbnails behind.
+     */
+    private void cleanupAfterFailure(final Path mediaDirectoryPath, final MultipartFile[] files,
+                                     final List<Future<ProcessedImageInfoDto>> results) {
+        results.forEach(result -> result.cancel(false));
+
+        final boolean interrupted = Thread.interrupted();
+        final List<ProcessedImageInfoDto> startedFiles = new ArrayList<>();
+
+        for (int i = 0; i < results.size(); i++) {
+            final Future<ProcessedImageInfoDto> result = results.get(i);
+            if (result.isCancelled()) {
+                continue;
+            }
+
+            try {
+                result.get();
+            } catch (ExecutionException | CancellationException | InterruptedException e) {
+                log.debug("[MediaServiceImpl.cleanupAfterFailure] File failed: {}", e.getMessage());
+            }
+
+            startedFiles.add(new ProcessedImageInfoDto(files[i].getOriginalFilename(), (int) files[i].getSize()));
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
+
+        log.error("Media processing failed, cleaning up {} files", startedFiles.size());
+        fileOperationsService.cleanupFiles(new ProcessedImagesDto(mediaDirectoryPath, startedFiles));
     }
 
     private MediaDto saveToDatabase(final String folderName,
@@ -119,6 +258,8 @@ public class MediaServiceImpl implements MediaService {
 
         final List<MediaFileEntity> savedMediaFiles = mediaFileRepository.saveAll(mediaFileEntities);
 
+        eventPublisher.publishEvent(new ContentChangedEvent("media " + savedMedia.getId()));
+
         log.info("[MediaServiceImpl.saveToDatabase] Successfully created media (ID: {}) with {} files in folder '{}'",
                 savedMedia.getId(), processedFiles.processedImages().size(), folderName);
 
@@ -0,0 +1,111 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.models.dtos.PostDto;
+import com.ohdeerit.blog.models.dtos.TagDto;
+
+import java.util.stream.Collectors;
+import java.util.*;
+
+/**
+ * Published posts numbered with small, reused integer ordinals, plus a bitset of ordinals per tag and per
+ * category. Not thread-safe: owners guard it with their own lock, and must never modify returned bitsets.
+ */
+final class PostBitmaps<T> {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final List<Entry<T>> entries = new ArrayList<>();
+    private final BitSet usedOrdinals = new BitSet();
+    private final Map<UUID, BitSet> tagPosts = new HashMap<>();
+    private final Map<UUID, BitSet> categoryPosts = new HashMap<>();
+
+    record Entry<T>(T value, UUID categoryId, Set<UUID> tagIds) {
+
+        static <T> Entry<T> of(final PostDto post, final T value) {
+            final UUID categoryId = post.category() == null ? null : post.category().id();
+            final Set<UUID> tagIds = post.tags() == null
+                    ? Set.of()
+                    : post.tags().stream().map(TagDto::id).collect(Collectors.toUnmodifiableSet());
+
+            return new Entry<>(value, categoryId, tagIds);
+        }
+    }
+
+    void put(final UUID postId, final Entry<T> entry) {
+        remove(postId);
+
+        final int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        ordinals.put(postId, ordinal);
+
+        if (ordinal == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(ordinal, entry);
+        }
+
+        for (UUID tagId : entry.tagIds()) {
+            tagPosts.computeIfAbsent(tagId, key -> new BitSet()).set(ordinal);
+        }
+
+        if (entry.categoryId() != null) {
+            categoryPosts.computeIfAbsent(entry.categoryId(), key -> new BitSet()).set(ordinal);
+        }
+    }
+
+    void remove(final UUID postId) {
+        final Integer ordinal = ordinals.remove(postId);
+        if (ordinal == null) {
+            return;
+        }
+
+        final Entry<T> entry = entries.set(ordinal, null);
+        usedOrdinals.clear(ordinal);
+
+        for (UUID tagId : entry.tagIds()) {
+            clearOrdinal(tagPosts, tagId, ordinal);
+        }
+
+        if (entry.categoryId() != null) {
+            clearOrdinal(categoryPosts, entry.categoryId(), ordinal);
+        }
+    }
+
+    Integer ordinal(final UUID postId) {
+        return ordinals.get(postId);
+    }
+
+    Entry<T> get(final int ordinal) {
+        return entries.get(ordinal);
+    }
+
+    BitSet all() {
+        return usedOrdinals;
+    }
+
+    BitSet tagPosts(final UUID tagId) {
+        return tagPosts.getOrDefault(tagId, EMPTY);
+    }
+
+    BitSet categoryPosts(final UUID categoryId) {
+        return categoryPosts.getOrDefault(categoryId, EMPTY);
+    }
+
+    Map<UUID, BitSet> tagPosts() {
+        return Collections.unmodifiableMap(tagPosts);
+    }
+
+    Map<UUID, BitSet> categoryPosts() {
+        return Collections.unmodifiableMap(categoryPosts);
+    }
+
+    private static void clearOrdinal(final Map<UUID, BitSet> postSets, final UUID key, final int ordinal) {
+        final BitSet posts = postSets.get(key);
+        posts.clear(ordinal);
+
+        if (posts.isEmpty()) {
+            postSets.remove(key);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.ohdeerit.blog.services.interfaces.PostCacheService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import com.ohdeerit.blog.models.events.PostChangedEvent;
+import com.ohdeerit.blog.models.dtos.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohdeerit.blog.config.EventListenerOrder;
+import org.springframework.core.annotation.Order;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import org.springframework.stereotype.Service;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Function;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class PostCacheServiceImpl implements PostCacheService {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 1024;
+    private static final int MEDIA_FILE_BYTES = 256;
+
+    @Value("${app.cache.posts.max-weight-bytes}")
+    private long maxWeightBytes;
+
+    @Value("${app.cache.posts.max-slugs}")
+    private long maxSlugs;
+
+    private Cache<UUID, PostDto> postsById;
+    private Cache<String, UUID> postIdsBySlug;
+
+    @PostConstruct
+    private void init() {
+        this.postsById = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(PostCacheServiceImpl::weigh)
+                .recordStats()
+                .build();
+
+        this.postIdsBySlug = Caffeine.newBuilder()
+                .maximumSize(maxSlugs)
+                .recordStats()
+                .build();
+
+        log.info("[PostCacheService.init] Post cache limited to {} bytes and {} slugs", maxWeightBytes, maxSlugs);
+    }
+
+    @Override
+    public PostDto getPost(final UUID id, final Function<UUID, PostDto> loader) {
+        return postsById.get(id, loader);
+    }
+
+    @Override
+    public PostDto getCachedPost(final UUID id) {
+        return postsById.getIfPresent(id);
+    }
+
+    @Override
+    public UUID getPostId(final String slug, final Function<String, UUID> loader) {
+        return postIdsBySlug.get(slug, loader);
+    }
+
+    @Override
+    public void evict(final UUID id, final String slug) {
+        postsById.invalidate(id);
+
+        if (slug != null) {
+            postIdsBySlug.invalidate(slug);
+        }
+
+        log.debug("[PostCacheService.evict] Evicted post '{}' ({})", id, slug);
+    }
+
+    @Order(EventListenerOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(final PostChangedEvent event) {
+        evict(event.post().id(), event.post().slug());
+    }
+
+    @Override
+    public List<CacheStatsDto> getStats() {
+        return List.of(
+                toStatsDto("postsById", postsById),
+                toStatsDto("postIdsBySlug", postIdsBySlug)
+        );
+    }
+
+    private static CacheStatsDto toStatsDto(final String name, final Cache<?, ?> cache) {
+        final CacheStats stats = cache.stats();
+
+        return new CacheStatsDto(
+                name,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.evictionWeight()
+        );
+    }
+
+    private static int weigh(final UUID id, final PostDto post) {
+        final long characters = length(post.title()) + length(post.shortDescription()) + length(post.content())
+                + length(post.excerpt());
+        final int mediaFiles = post.media() == null || post.media().mediaFiles() == null
+                ? 0
+                : post.media().mediaFiles().size();
+
+        return (int) Math.min(Integer.MAX_VALUE,
+                ENTRY_OVERHEAD_BYTES + characters * 2 + (long) mediaFiles * MEDIA_FILE_BYTES);
+    }
+
+    private static long length(final String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,205 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.interfaces.PostFilterService;
+import com.ohdeerit.blog.services.mappers.PostServiceMapper;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Pageable;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.enums.TagMatch;
+import com.ohdeerit.blog.models.dtos.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.*;
+
+/**
+ * Post listings filtered by any of several categories and all or any of several tags, served from the
+ * bitsets of {@link PostBitmaps}. Only published posts are indexed, so the set of indexed ordinals doubles
+ * as the status bitmap. Matches are ordered newest first, consistent with the SQL listing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostFilterServiceImpl implements PostFilterService, PostIndex {
+
+    private static final Comparator<PostSummaryDto> POST_ORDER = Comparator
+            .comparing(PostSummaryDto::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PostSummaryDto::id);
+
+    private static final Comparator<FacetCountDto> FACET_ORDER = Comparator
+            .comparingLong(FacetCountDto::count).reversed()
+            .thenComparing(FacetCountDto::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final PostServiceMapper postMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FilterState state = new FilterState();
+
+    private static final class FilterState {
+        private final PostBitmaps<PostSummaryDto> bitmaps = new PostBitmaps<>();
+        private final Map<UUID, String> categoryNames = new HashMap<>();
+        private final Map<UUID, String> tagNames = new HashMap<>();
+
+        private void put(final PostDto post, final PostBitmaps.Entry<PostSummaryDto> entry) {
+            if (entry == null) {
+                bitmaps.remove(post.id());
+                return;
+            }
+
+            bitmaps.put(post.id(), entry);
+
+            if (post.category() != null) {
+                categoryNames.put(post.category().id(), post.category().name());
+            }
+
+            if (post.tags() != null) {
+                post.tags().forEach(tag -> tagNames.put(tag.id(), tag.name()));
+            }
+        }
+    }
+
+    @Override
+    public Slice<PostSummaryDto> getPosts(final PostFilterDto filter, final PostCursorDto cursor,
+                                          final Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            final BitSet matches = match(filter);
+            final long required = pageable.getOffset() + pageable.getPageSize() + 1;
+            final PriorityQueue<PostSummaryDto> newest = new PriorityQueue<>(POST_ORDER);
+
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                final PostSummaryDto post = state.bitmaps.get(ordinal).value();
+                if (cursor != null && !isBefore(post, cursor)) {
+                    continue;
+                }
+
+                newest.add(post);
+                if (newest.size() > required) {
+                    newest.poll();
+                }
+            }
+
+            final List<PostSummaryDto> ordered = new ArrayList<>(newest);
+            ordered.sort(POST_ORDER.reversed());
+
+            final int from = (int) Math.min(pageable.getOffset(), ordered.size());
+            final int to = Math.min(from + pageable.getPageSize(), ordered.size());
+            final boolean hasNext = ordered.size() > to;
+
+            return new SliceImpl<>(List.copyOf(ordered.subList(from, to)), pageable, hasNext);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public PostFacetsDto getFacets(final PostFilterDto filter) {
+        lock.readLock().lock();
+        try {
+            final BitSet matches = match(filter);
+
+            return new PostFacetsDto(
+                    matches.cardinality(),
+                    countFacets(matches, state.bitmaps.categoryPosts(), state.categoryNames),
+                    countFacets(matches, state.bitmaps.tagPosts(), state.tagNames)
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(final PostDto post) {
+        final PostBitmaps.Entry<PostSummaryDto> entry = toEntry(post);
+
+        lock.writeLock().lock();
+        try {
+            state.put(post, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("[PostFilterService.index] Indexed post '{}' ({})", post.id(), post.status());
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        final FilterState rebuilt = new FilterState();
+
+        return new Rebuild() {
+            @Override
+            public void index(final PostDto post) {
+                rebuilt.put(post, toEntry(post));
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    state = rebuilt;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    private PostBitmaps.Entry<PostSummaryDto> toEntry(final PostDto post) {
+        return PostStatus.PUBLISHED.equals(post.status())
+                ? PostBitmaps.Entry.of(post, postMapper.toSummary(post))
+                : null;
+    }
+
+    private BitSet match(final PostFilterDto filter) {
+        final PostBitmaps<PostSummaryDto> bitmaps = state.bitmaps;
+        final BitSet matches = (BitSet) bitmaps.all().clone();
+
+        if (filter.categoryIds() != null && !filter.categoryIds().isEmpty()) {
+            final BitSet anyCategory = new BitSet();
+            filter.categoryIds().forEach(categoryId -> anyCategory.or(bitmaps.categoryPosts(categoryId)));
+            matches.and(anyCategory);
+        }
+
+        if (filter.tagIds() != null && !filter.tagIds().isEmpty()) {
+            if (TagMatch.ANY.equals(filter.tagMatch())) {
+                final BitSet anyTag = new BitSet();
+                filter.tagIds().forEach(tagId -> anyTag.or(bitmaps.tagPosts(tagId)));
+                matches.and(anyTag);
+            } else {
+                filter.tagIds().forEach(tagId -> matches.and(bitmaps.tagPosts(tagId)));
+            }
+        }
+
+        return matches;
+    }
+
+    private static List<FacetCountDto> countFacets(final BitSet matches, final Map<UUID, BitSet> postSets,
+                                                   final Map<UUID, String> names) {
+        final List<FacetCountDto> facets = new ArrayList<>();
+
+        postSets.forEach((id, posts) -> {
+            final BitSet matchingPosts = (BitSet) posts.clone();
+            matchingPosts.and(matches);
+
+            final int count = matchingPosts.cardinality();
+            if (count > 0) {
+                facets.add(new FacetCountDto(id, names.get(id), count));
+            }
+        });
+
+        facets.sort(FACET_ORDER);
+
+        return facets;
+    }
+
+    private static boolean isBefore(final PostSummaryDto post, final PostCursorDto cursor) {
+        final int byCreatedAt = post.createdAt().compareTo(cursor.createdAt());
+
+        return byCreatedAt < 0 || (byCreatedAt == 0 && post.id().compareTo(cursor.id()) < 0);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.ohdeerit.blog.services.interfaces.PostIndexingService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ohdeerit.blog.services.mappers.PostServiceMapper;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import org.springframework.context.event.EventListener;
+import com.ohdeerit.blog.models.events.PostChangedEvent;
+import com.ohdeerit.blog.repositories.PostRepository;
+import org.springframework.data.domain.PageRequest;
+import com.ohdeerit.blog.config.EventListenerOrder;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostIndexingServiceImpl implements PostIndexingService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final List<PostIndex> postIndexes;
+
+    private final PostRepository postRepository;
+    private final PostServiceMapper postMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object changeLock = new Object();
+    // Changes committed during a running reindex, by post; null while no reindex runs
+    private Map<UUID, PostDto> pendingChanges;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reindexAll();
+    }
+
+    /**
+     * Rebuilds every index off to the side while the current ones keep serving reads, then swaps them in.
+     * Changes committed while the batches are read are replayed over them first, so a batch read before a
+     * concurrent update never wins over the fresher entry from its change event.
+     */
+    @Override
+    public synchronized void reindexAll() {
+        final long start = System.currentTimeMillis();
+        final List<PostIndex.Rebuild> rebuilds = postIndexes.stream().map(PostIndex::rebuild).toList();
+
+        synchronized (changeLock) {
+            pendingChanges = new HashMap<>();
+        }
+
+        try {
+            Pageable pageable = PageRequest.of(0, BATCH_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+            Slice<PostDto> batch;
+            int indexed = 0;
+
+            do {
+                final Pageable batchPageable = pageable;
+                batch = transactionTemplate.execute(status -> postRepository
+                        .findAllByStatus(PostStatus.PUBLISHED, batchPageable)
+                        .map(postMapper::map));
+
+                for (PostDto post : batch.getContent()) {
+                    rebuilds.forEach(rebuild -> rebuild.index(post));
+                }
+
+                indexed += batch.getNumberOfElements();
+                pageable = batch.nextPageable();
+            } while (batch.hasNext());
+
+            synchronized (changeLock) {
+                for (PostDto post : pendingChanges.values()) {
+                    rebuilds.forEach(rebuild -> rebuild.index(post));
+                }
+
+                rebuilds.forEach(PostIndex.Rebuild::publish);
+            }
+
+            log.info("[PostIndexingService.reindexAll] Indexed {} posts into {} indexes in {} ms",
+                    indexed, postIndexes.size(), System.currentTimeMillis() - start);
+        } finally {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+        }
+    }
+
+    @Order(EventListenerOrder.READ_MODELS)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(final PostChangedEvent event) {
+        synchronized (changeLock) {
+            postIndexes.forEach(postIndex -> postIndex.index(event.post()));
+
+            if (pendingChanges != null) {
+                pendingChanges.put(event.post().id(), event.post());
+            }
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.ohdeerit.blog.services.impl;
 
 import org.springframework.transaction.annotation.Transactional;
+import com.ohdeerit.blog.models.projections.PostSummaryProjection;
+import com.ohdeerit.blog.models.projections.PostTagNameProjection;
 import com.ohdeerit.blog.services.mappers.PostServiceMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import com.ohdeerit.blog.models.events.PostChangedEvent;
 import com.ohdeerit.blog.repositories.PostMediaRepository;
 import org.springframework.web.multipart.MultipartFile;
 import com.ohdeerit.blog.repositories.PostRepository;
@@ -14,12 +18,15 @@ import com.ohdeerit.blog.services.interfaces.*;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.Slice;
 import com.ohdeerit.blog.models.entities.*;
+import com.ohdeerit.blog.utils.MultiPatternReplacer;
 import jakarta.annotation.PostConstruct;
 import com.ohdeerit.blog.models.dtos.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -31,6 +38,8 @@ import java.util.*;
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    private static final String CONTENT_FILES_URL_PREFIX = "/resources/post_content/";
+
     @Value("${app.post.thumbnail.upload-dir}")
     private String thumbnailUploadDirectory;
 
@@ -69,59 +78,71 @@ public class PostServiceImpl implements PostService {
     private final TagService tagService;
     private final MediaService mediaService;
     private final ImageService imageService;
+    private final PostCacheService postCacheService;
+    private final PostSlugService postSlugService;
 
     private final PostRepository postRepository;
     private final PostMediaRepository postMediaRepository;
 
     private final PostServiceMapper postMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public PostDto getPost(UUID id) {
-        final PostEntity postEntity = postRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("No post found with id: " + id));
+        return postCacheService.getPost(id, this::loadPost);
+    }
 
-        return postMapper.map(postEntity);
+    @Override
+    public UUID getPostId(String slug) {
+        return postCacheService.getPostId(slug, postSlug -> postRepository.findIdBySlug(postSlug)
+                .orElseThrow(() -> new EntityNotFoundException("Post not found with slug: " + postSlug)));
     }
 
     @Override
-    public PostDto getPostBySlug(String slug) {
-        final PostEntity postEntity = postRepository.findBySlug(slug)
-                .orElseThrow(() -> new EntityNotFoundException("Post not found with slug: " + slug));
+    public LocalDateTime getPostUpdatedAt(UUID id) {
+        final PostDto cachedPost = postCacheService.getCachedPost(id);
+        if (cachedPost != null) {
+            return cachedPost.updatedAt();
+        }
 
-        return postMapper.map(postEntity);
+        return postRepository.findUpdatedAtById(id)
+                .orElseThrow(() -> new EntityNotFoundException("No post found with id: " + id));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Slice<PostDto> getPosts(UUID categoryId, UUID tagId, Pageable pageable) {
-        Slice<PostEntity> postEntities;
-
-        if (categoryId != null && tagId != null) {
-            CategoryEntity category = categoryService.getCategory(categoryId);
-            TagEntity tag = tagService.getTag(tagId);
-            postEntities = postRepository.findAllByStatusAndCategoryAndTagsContaining(
-                    PostStatus.PUBLISHED, category, tag, pageable);
-        } else if (categoryId != null) {
-            CategoryEntity category = categoryService.getCategory(categoryId);
-            postEntities = postRepository.findAllByStatusAndCategory(
-                    PostStatus.PUBLISHED, category, pageable);
-        } else if (tagId != null) {
-            TagEntity tag = tagService.getTag(tagId);
-            postEntities = postRepository.findAllByStatusAndTagsContaining(
-                    PostStatus.PUBLISHED, tag, pageable);
-        } else {
-            postEntities = postRepository.findAllByStatus(PostStatus.PUBLISHED, pageable);
-        }
+    public Slice<PostSummaryDto> getPosts(PostCursorDto cursor, Pageable pageable) {
+        final Slice<PostSummaryProjection> summaries = cursor == null
+                ? postRepository.findSummariesByStatus(PostStatus.PUBLISHED, pageable)
+                : postRepository.findSummariesByStatusBefore(
+                PostStatus.PUBLISHED, cursor.createdAt(), cursor.id(), pageable);
+
+        return mapSummaries(summaries);
+    }
 
-        return postEntities.map(postMapper::map);
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PostSummaryDto> getArchivePosts(YearMonth month, PostCursorDto cursor, Pageable pageable) {
+        final LocalDateTime from = month.atDay(1).atStartOfDay();
+        final LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        final Slice<PostSummaryProjection> summaries = cursor == null
+                ? postRepository.findSummariesByStatusAndCreatedAtBetween(PostStatus.PUBLISHED, from, to, pageable)
+                : postRepository.findSummariesByStatusAndCreatedAtBetweenBefore(
+                PostStatus.PUBLISHED, from, to, cursor.createdAt(), cursor.id(), pageable);
+
+        return mapSummaries(summaries);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Slice<PostDto> getAllPosts(Pageable pageable) {
-        Slice<PostEntity> posts = postRepository.findAll(pageable);
+    public Slice<PostSummaryDto> getAllPosts(PostCursorDto cursor, Pageable pageable) {
+        final Slice<PostSummaryProjection> summaries = cursor == null
+                ? postRepository.findAllSummaries(pageable)
+                : postRepository.findAllSummariesBefore(cursor.createdAt(), cursor.id(), pageable);
 
-        return posts.map(postMapper::map);
+        return mapSummaries(summaries);
     }
 
     @Override
@@ -134,27 +155,7 @@ public class PostServiceImpl implements PostService {
                 List.of(ThumbnailConstants.POST_THUMBNAIL));
         final String thumbnailFileName = imageService.saveImage(saveThumbnailDto);
 
-        String content = post.content();
-
-        if (!Objects.isNull(post.files())) {
-            final Map<String, String> fileUrlMap = parseFileUrls(post.fileUrls());
-
-            Map<String, String> urlReplacements = new HashMap<>();
-
-            for (MultipartFile file : post.files()) {
-                final var saveContentFilesDto = new SaveImageDto(file, Paths.get(filesUploadDirectory), null);
-                final String contentFileName = imageService.saveImage(saveContentFilesDto);
-                log.info("[PostService.createPost] Post content file '{}'", contentFileName);
-
-                final String localFileUrl = fileUrlMap.get(contentFileName);
-                if (localFileUrl != null) {
-                    String serverUrl = "/resources/post_content/" + contentFileName;
-                    urlReplacements.put(localFileUrl, serverUrl);
-                }
-            }
-
-            content = replaceUrls(post.content(), urlReplacements);
-        }
+        final String content = saveContentFiles(post.content(), post.files(), post.fileUrls());
 
         List<TagEntity> tagEntities = null;
         if (post.tagIds() != null && !post.tagIds().isEmpty()) {
@@ -170,9 +171,9 @@ public class PostServiceImpl implements PostService {
         newPost.setCategory(categoryEntity);
         newPost.setAuthor(userEntity);
         newPost.setTitle(post.title());
+        newPost.setSlug(postSlugService.reserve(post.title()));
         newPost.setContent(content);
         newPost.setStatus(post.status());
-        newPost.setReadingTime(calculateReadTime(content));
         newPost.setThumbnail(thumbnailFileName);
         newPost.setShortDescription(post.shortDescription());
         if (tagEntities != null) {
@@ -186,7 +187,10 @@ public class PostServiceImpl implements PostService {
         final PostEntity savedPost = postRepository.save(newPost);
         log.info("[PostService.createPost] Post '{}': {}", savedPost.getId(), post.title());
 
-        return postMapper.map(savedPost);
+        final PostDto postDto = postMapper.map(savedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(postDto));
+
+        return postDto;
     }
 
 
@@ -204,27 +208,7 @@ public class PostServiceImpl implements PostService {
             existingPost.setThumbnail(thumbnailFileName);
         }
 
-        String content = updatePost.content();
-
-        if (!Objects.isNull(updatePost.files())) {
-            final Map<String, String> fileUrlMap = parseFileUrls(updatePost.fileUrls());
-
-            Map<String, String> urlReplacements = new HashMap<>();
-
-            for (MultipartFile file : updatePost.files()) {
-                final var saveContentFilesDto = new SaveImageDto(file, Paths.get(filesUploadDirectory), null);
-                final String contentFileName = imageService.saveImage(saveContentFilesDto);
-                log.info("[PostService.createPost] Post content file '{}'", contentFileName);
-
-                final String localFileUrl = fileUrlMap.get(contentFileName);
-                if (localFileUrl != null) {
-                    String serverUrl = "/resources/post_content/" + contentFileName;
-                    urlReplacements.put(localFileUrl, serverUrl);
-                }
-            }
-
-            content = replaceUrls(updatePost.content(), urlReplacements);
-        }
+        final String content = saveContentFiles(updatePost.content(), updatePost.files(), updatePost.fileUrls());
 
         if (updatePost.title() != null) {
             existingPost.setTitle(updatePost.title());
@@ -236,7 +220,6 @@ public class PostServiceImpl implements PostService {
 
         if (updatePost.content() != null) {
             existingPost.setContent(content);
-            existingPost.setReadingTime(calculateReadTime(content));
         }
 
         if (updatePost.categoryId() != null) {
@@ -266,18 +249,62 @@ public class PostServiceImpl implements PostService {
             existingPost.setMedia(mediaEntity);
         }
 
-        final PostEntity updatedPost = postRepository.save(existingPost);
-        return postMapper.map(updatedPost);
+        // Flushed before mapping so @PreUpdate has set updatedAt for the response and every PostChangedEvent listener
+        final PostEntity updatedPost = postRepository.saveAndFlush(existingPost);
+
+        final PostDto postDto = postMapper.map(updatedPost);
+        eventPublisher.publishEvent(new PostChangedEvent(postDto));
+
+        return postDto;
     }
 
-    private static Integer calculateReadTime(String content) {
-        if (content == null || content.isEmpty()) {
-            return 0;
+    private PostDto loadPost(final UUID id) {
+        final PostEntity postEntity = postRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("No post found with id: " + id));
+
+        return postMapper.map(postEntity);
+    }
+
+    private Slice<PostSummaryDto> mapSummaries(final Slice<PostSummaryProjection> summaries) {
+        final List<UUID> postIds = summaries.map(PostSummaryProjection::id).toList();
+
+        final Map<UUID, Set<String>> tagNames = postIds.isEmpty()
+                ? Collections.emptyMap()
+                : postRepository.findTagNamesByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(
+                        PostTagNameProjection::getPostId,
+                        Collectors.mapping(PostTagNameProjection::getName, Collectors.toCollection(TreeSet::new))
+                ));
+
+        return summaries.map(summary -> postMapper.map(summary, tagNames.getOrDefault(summary.id(), Set.of())));
+    }
+
+    /**
+     * Saves the uploaded content files and points their local URLs in the content at the saved files, with
+     * all URLs rewritten in a single pass.
+     */
+    private String saveContentFiles(final String content, final MultipartFile[] files, final List<String> fileUrls) {
+        if (Objects.isNull(files)) {
+            return content;
         }
 
-        int words = content.split("\\s+").length;
+        final Map<String, String> fileUrlMap = parseFileUrls(fileUrls);
+        final Map<String, String> urlReplacements = new HashMap<>();
 
-        return (int) Math.ceil((double) words / 200);
+        for (MultipartFile file : files) {
+            final var saveContentFilesDto = new SaveImageDto(file, Paths.get(filesUploadDirectory), null);
+            final String contentFileName = imageService.saveImage(saveContentFilesDto);
+            log.info("[PostService.saveContentFiles] Post content file '{}'", contentFileName);
+
+            final String localFileUrl = fileUrlMap.get(contentFileName);
+            if (localFileUrl != null) {
+                urlReplacements.put(localFileUrl, CONTENT_FILES_URL_PREFIX + contentFileName);
+            }
+        }
+
+        log.debug("[PostService.saveContentFiles] Rewriting {} file URLs", urlReplacements.size());
+
+        return MultiPatternReplacer.of(urlReplacements).replace(content);
     }
 
     private static Map<String, String> parseFileUrls(final List<String> fileUrls) {
@@ -297,16 +324,4 @@ public class PostServiceImpl implements PostService {
         return map;
     }
 
-    private static String replaceUrls(final String content, final Map<String, String> replacements) {
-        String result = content;
-        for (Map.Entry<String, String> entry : replacements.entrySet()) {
-            final String localUrl = entry.getKey();
-            final String serverUrl = entry.getValue();
-            result = result.replace(localUrl, serverUrl);
-
-            log.debug("[PostService.replaceUrls] Replaced '{}' with '{}'", localUrl, serverUrl);
-        }
-
-        return result;
-    }
 }
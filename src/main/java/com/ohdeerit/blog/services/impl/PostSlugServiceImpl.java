@@ -0,0 +1,87 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.interfaces.PostSlugService;
+import com.ohdeerit.blog.repositories.PostRepository;
+import com.ohdeerit.blog.models.entities.PostEntity;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.utils.SlugUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * In-memory index of taken post slugs, loaded from the database on first use. Colliding slugs get the next
+ * free numeric suffix, remembered per base slug, so reserving never queries the database and a run of equal
+ * titles does not rescan its earlier suffixes. Reservations of rolled back posts stay taken, which only
+ * leaves a gap in the suffixes; the unique constraint on posts.slug still guards other instances.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSlugServiceImpl implements PostSlugService {
+
+    private static final int FIRST_SUFFIX = 2;
+
+    private final PostRepository postRepository;
+
+    private final Set<String> takenSlugs = new HashSet<>();
+    private final Map<String, Integer> nextSuffixes = new HashMap<>();
+    private boolean loaded;
+
+    @Override
+    public synchronized String reserve(final String title) {
+        load();
+
+        return reserveSlug(SlugUtil.slugify(title, PostEntity.SLUG_LENGTH));
+    }
+
+    @Override
+    public synchronized List<String> reserveAll(final List<String> titles) {
+        load();
+
+        final List<String> slugs = new ArrayList<>(titles.size());
+        for (String title : titles) {
+            slugs.add(reserveSlug(SlugUtil.slugify(title, PostEntity.SLUG_LENGTH)));
+        }
+
+        return slugs;
+    }
+
+    @Override
+    public synchronized void register(final String slug) {
+        load();
+
+        takenSlugs.add(slug);
+    }
+
+    private String reserveSlug(final String baseSlug) {
+        if (takenSlugs.add(baseSlug)) {
+            return baseSlug;
+        }
+
+        int suffix = nextSuffixes.getOrDefault(baseSlug, FIRST_SUFFIX);
+        String slug = SlugUtil.withSuffix(baseSlug, suffix, PostEntity.SLUG_LENGTH);
+
+        while (!takenSlugs.add(slug)) {
+            slug = SlugUtil.withSuffix(baseSlug, ++suffix, PostEntity.SLUG_LENGTH);
+        }
+
+        nextSuffixes.put(baseSlug, suffix + 1);
+
+        log.debug("[PostSlugService.reserveSlug] Slug '{}' taken, reserved '{}'", baseSlug, slug);
+
+        return slug;
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+
+        takenSlugs.addAll(postRepository.findAllSlugs());
+        loaded = true;
+
+        log.info("[PostSlugService.load] Loaded {} post slugs", takenSlugs.size());
+    }
+}
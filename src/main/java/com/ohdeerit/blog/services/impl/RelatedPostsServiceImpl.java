@@ -0,0 +1,154 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.interfaces.RelatedPostsService;
+import com.ohdeerit.blog.services.mappers.PostServiceMapper;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import com.ohdeerit.blog.models.dtos.RelatedPostDto;
+import com.ohdeerit.blog.models.dtos.PostSummaryDto;
+import jakarta.persistence.EntityNotFoundException;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.*;
+
+/**
+ * Related posts ranked by the Jaccard similarity of their tag sets, with a fixed boost for sharing the
+ * category. Candidates and tag overlaps come from the per-tag and per-category bitsets of
+ * {@link PostBitmaps}, so no request touches post_tags.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RelatedPostsServiceImpl implements RelatedPostsService, PostIndex {
+
+    private static final double CATEGORY_BOOST = 0.25;
+    private static final int MAX_LIMIT = 20;
+
+    private static final Comparator<RelatedPostDto> RELATED_ORDER = Comparator
+            .comparingDouble(RelatedPostDto::score)
+            .thenComparing(related -> related.post().createdAt(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PostServiceMapper postMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private PostBitmaps<PostSummaryDto> bitmaps = new PostBitmaps<>();
+
+    @Override
+    public List<RelatedPostDto> getRelatedPosts(final UUID postId, final int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Related posts limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        lock.readLock().lock();
+        try {
+            final Integer ordinal = bitmaps.ordinal(postId);
+            if (ordinal == null) {
+                throw new EntityNotFoundException("No published post found with id: " + postId);
+            }
+
+            return rank(ordinal, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(final PostDto post) {
+        final PostBitmaps.Entry<PostSummaryDto> entry = toEntry(post);
+
+        lock.writeLock().lock();
+        try {
+            put(bitmaps, post.id(), entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("[RelatedPostsService.index] Indexed post '{}' ({})", post.id(), post.status());
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        final PostBitmaps<PostSummaryDto> rebuilt = new PostBitmaps<>();
+
+        return new Rebuild() {
+            @Override
+            public void index(final PostDto post) {
+                put(rebuilt, post.id(), toEntry(post));
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    bitmaps = rebuilt;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    private PostBitmaps.Entry<PostSummaryDto> toEntry(final PostDto post) {
+        return PostStatus.PUBLISHED.equals(post.status())
+                ? PostBitmaps.Entry.of(post, postMapper.toSummary(post))
+                : null;
+    }
+
+    private static void put(final PostBitmaps<PostSummaryDto> bitmaps, final UUID postId,
+                            final PostBitmaps.Entry<PostSummaryDto> entry) {
+        if (entry != null) {
+            bitmaps.put(postId, entry);
+        } else {
+            bitmaps.remove(postId);
+        }
+    }
+
+    private List<RelatedPostDto> rank(final int ordinal, final int limit) {
+        final PostBitmaps.Entry<PostSummaryDto> post = bitmaps.get(ordinal);
+        final List<BitSet> postTagSets = post.tagIds().stream().map(bitmaps::tagPosts).toList();
+
+        final BitSet candidates = new BitSet();
+        postTagSets.forEach(candidates::or);
+
+        final BitSet sameCategory = bitmaps.categoryPosts(post.categoryId());
+        candidates.or(sameCategory);
+        candidates.clear(ordinal);
+
+        final PriorityQueue<RelatedPostDto> topRelated = new PriorityQueue<>(limit + 1, RELATED_ORDER);
+
+        int candidate = candidates.nextSetBit(0);
+        while (candidate >= 0) {
+            int sharedTags = 0;
+            for (BitSet tagSet : postTagSets) {
+                if (tagSet.get(candidate)) {
+                    sharedTags++;
+                }
+            }
+
+            final PostBitmaps.Entry<PostSummaryDto> candidatePost = bitmaps.get(candidate);
+            final int unionSize = post.tagIds().size() + candidatePost.tagIds().size() - sharedTags;
+
+            double score = unionSize == 0 ? 0 : (double) sharedTags / unionSize;
+            if (sameCategory.get(candidate)) {
+                score += CATEGORY_BOOST;
+            }
+
+            topRelated.add(new RelatedPostDto(score, candidatePost.value()));
+            if (topRelated.size() > limit) {
+                topRelated.poll();
+            }
+
+            candidate = candidates.nextSetBit(candidate + 1);
+        }
+
+        final List<RelatedPostDto> related = new ArrayList<>(topRelated);
+        related.sort(RELATED_ORDER.reversed());
+
+        return related;
+    }
+}
@@ -0,0 +1,139 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+import com.ohdeerit.blog.services.interfaces.ContentVersionService;
+import com.ohdeerit.blog.services.interfaces.ResponseCacheService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
+import com.ohdeerit.blog.models.dtos.CachedResponseDto;
+import com.ohdeerit.blog.models.events.PostChangedEvent;
+import com.ohdeerit.blog.models.dtos.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ohdeerit.blog.config.EventListenerOrder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.io.UncheckedIOException;
+import java.io.IOException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResponseCacheServiceImpl implements ResponseCacheService {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+
+    private final ContentVersionService contentVersionService;
+
+    @Value("${app.cache.responses.max-weight-bytes}")
+    private long maxWeightBytes;
+
+    @Value("${app.cache.responses.gzip-min-bytes}")
+    private int gzipMinBytes;
+
+    private Cache<String, CachedResponseDto> responses;
+
+    @PostConstruct
+    private void init() {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(ResponseCacheServiceImpl::weigh)
+                .recordStats()
+                .build();
+
+        log.info("[ResponseCacheService.init] Response cache limited to {} bytes, gzip from {} bytes",
+                maxWeightBytes, gzipMinBytes);
+    }
+
+    @Override
+    public CachedResponseDto get(final String key) {
+        final CachedResponseDto response = responses.getIfPresent(key);
+
+        // Entries rendered before the last write are never served, even if invalidation has not run yet
+        if (response != null && response.contentVersion() != contentVersionService.getVersion()) {
+            responses.invalidate(key);
+            return null;
+        }
+
+        return response;
+    }
+
+    @Override
+    public void put(final String key, final CachedResponseDto response) {
+        if (response.contentVersion() != contentVersionService.getVersion()) {
+            log.debug("[ResponseCacheService.put] Skipped '{}' rendered during a content change", key);
+            return;
+        }
+
+        final byte[] gzipBody = response.body().length >= gzipMinBytes ? gzip(response.body()) : null;
+
+        responses.put(key, new CachedResponseDto(
+                response.contentVersion(),
+                response.contentType(),
+                response.eTag(),
+                response.cacheControl(),
+                response.body(),
+                gzipBody
+        ));
+    }
+
+    @Override
+    public void invalidateAll() {
+        responses.invalidateAll();
+
+        log.debug("[ResponseCacheService.invalidateAll] Cleared cached responses");
+    }
+
+    @Order(EventListenerOrder.RESPONSE_CACHE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(final PostChangedEvent event) {
+        invalidateAll();
+    }
+
+    @Order(EventListenerOrder.RESPONSE_CACHE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(final ContentChangedEvent event) {
+        invalidateAll();
+    }
+
+    @Override
+    public CacheStatsDto getStats() {
+        final CacheStats stats = responses.stats();
+
+        return new CacheStatsDto(
+                "responses",
+                responses.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.evictionWeight()
+        );
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4);
+
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+            gzipStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private static int weigh(final String key, final CachedResponseDto response) {
+        final long gzipBytes = response.gzipBody() == null ? 0 : response.gzipBody().length;
+
+        return (int) Math.min(Integer.MAX_VALUE,
+                ENTRY_OVERHEAD_BYTES + key.length() * 2L + response.body().length + gzipBytes);
+    }
+}
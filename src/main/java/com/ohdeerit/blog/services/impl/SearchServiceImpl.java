@@ -0,0 +1,228 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.mappers.PostServiceMapper;
+import com.ohdeerit.blog.services.interfaces.SearchService;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import com.ohdeerit.blog.models.dtos.PostSearchHitDto;
+import com.ohdeerit.blog.models.dtos.PostSummaryDto;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import com.ohdeerit.blog.models.dtos.TagDto;
+import com.ohdeerit.blog.utils.TokenizerUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.*;
+
+/**
+ * BM25 ranked search over an inverted index of published posts. Title, tags and short description
+ * count as repeated occurrences of their terms, so matches there outrank matches in the content.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchServiceImpl implements SearchService, PostIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private static final int MAX_LIMIT = 50;
+
+    private static final Comparator<PostSearchHitDto> HIT_ORDER = Comparator
+            .comparingDouble(PostSearchHitDto::score)
+            .thenComparing(hit -> hit.post().createdAt(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PostServiceMapper postMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex invertedIndex = new InvertedIndex();
+
+    private record IndexedPost(PostSummaryDto summary, Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private static final class InvertedIndex {
+        private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+        private final Map<UUID, IndexedPost> posts = new HashMap<>();
+        private long totalLength;
+
+        /**
+         * Replaces the post, or only removes it when {@code indexedPost} is null.
+         */
+        private void put(final UUID postId, final IndexedPost indexedPost) {
+            remove(postId);
+
+            if (indexedPost != null) {
+                add(postId, indexedPost);
+            }
+        }
+
+        private void add(final UUID postId, final IndexedPost indexedPost) {
+            posts.put(postId, indexedPost);
+            totalLength += indexedPost.length();
+
+            indexedPost.termFrequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(postId, frequency));
+        }
+
+        private void remove(final UUID postId) {
+            final IndexedPost indexedPost = posts.remove(postId);
+            if (indexedPost == null) {
+                return;
+            }
+
+            totalLength -= indexedPost.length();
+
+            for (String term : indexedPost.termFrequencies().keySet()) {
+                final Map<UUID, Integer> termPostings = postings.get(term);
+                termPostings.remove(postId);
+
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<PostSearchHitDto> search(final String query, final int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        final Set<String> terms = new LinkedHashSet<>(TokenizerUtil.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return rank(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(final PostDto post) {
+        final IndexedPost indexedPost = analyze(post);
+
+        lock.writeLock().lock();
+        try {
+            invertedIndex.put(post.id(), indexedPost);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.debug("[SearchService.index] Indexed post '{}' ({})", post.id(), post.status());
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        final InvertedIndex rebuilt = new InvertedIndex();
+
+        return new Rebuild() {
+            @Override
+            public void index(final PostDto post) {
+                rebuilt.put(post.id(), analyze(post));
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    invertedIndex = rebuilt;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    private List<PostSearchHitDto> rank(final Set<String> terms, final int limit) {
+        final Map<String, Map<UUID, Integer>> postings = invertedIndex.postings;
+        final Map<UUID, IndexedPost> posts = invertedIndex.posts;
+        final int postCount = posts.size();
+        if (postCount == 0) {
+            return List.of();
+        }
+
+        final double averageLength = (double) invertedIndex.totalLength / postCount;
+        final Map<UUID, Double> scores = new HashMap<>();
+
+        for (String term : terms) {
+            final Map<UUID, Integer> termPostings = postings.get(term);
+            if (termPostings == null) {
+                continue;
+            }
+
+            final int documentFrequency = termPostings.size();
+            final double idf = Math.log(1 + (postCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            termPostings.forEach((postId, termFrequency) -> {
+                final double lengthNorm = 1 - B + B * posts.get(postId).length() / averageLength;
+                final double score = idf * termFrequency * (K1 + 1) / (termFrequency + K1 * lengthNorm);
+
+                scores.merge(postId, score, Double::sum);
+            });
+        }
+
+        final PriorityQueue<PostSearchHitDto> topHits = new PriorityQueue<>(limit + 1, HIT_ORDER);
+        scores.forEach((postId, score) -> {
+            topHits.add(new PostSearchHitDto(score, posts.get(postId).summary()));
+
+            if (topHits.size() > limit) {
+                topHits.poll();
+            }
+        });
+
+        final List<PostSearchHitDto> hits = new ArrayList<>(topHits);
+        hits.sort(HIT_ORDER.reversed());
+
+        return hits;
+    }
+
+    /**
+     * Terms of a published post, or null when the post is not published.
+     */
+    private IndexedPost analyze(final PostDto post) {
+        if (!PostStatus.PUBLISHED.equals(post.status())) {
+            return null;
+        }
+
+        final Map<String, Integer> termFrequencies = new HashMap<>();
+
+        int length = countTerms(termFrequencies, post.title(), TITLE_WEIGHT);
+        length += countTerms(termFrequencies, post.shortDescription(), DESCRIPTION_WEIGHT);
+        length += countTerms(termFrequencies, post.content(), CONTENT_WEIGHT);
+
+        if (post.tags() != null) {
+            for (TagDto tag : post.tags()) {
+                length += countTerms(termFrequencies, tag.name(), TAG_WEIGHT);
+            }
+        }
+
+        return new IndexedPost(postMapper.toSummary(post), termFrequencies, length);
+    }
+
+    private static int countTerms(final Map<String, Integer> termFrequencies, final String text, final int weight) {
+        final List<String> tokens = TokenizerUtil.tokenize(text);
+
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+
+        return tokens.size() * weight;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.io.File;
+
+/**
+ * Uploaded file moved to the staging directory, so it outlives the request that uploaded it.
+ */
+record StagedMultipartFile(
+        String name,
+        String originalFilename,
+        String contentType,
+        long size,
+        Path path
+) implements MultipartFile {
+
+    static StagedMultipartFile stage(final MultipartFile file, final Path path) throws IOException {
+        file.transferTo(path);
+
+        return new StagedMultipartFile(file.getName(), file.getOriginalFilename(), file.getContentType(),
+                file.getSize(), path);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public byte[] getBytes() throws IOException {
+        return Files.readAllBytes(path);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void transferTo(final File dest) throws IOException {
+        Files.copy(path, dest.toPath());
+    }
+}
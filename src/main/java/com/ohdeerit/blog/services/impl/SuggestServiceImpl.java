@@ -0,0 +1,287 @@
+package com.ohdeerit.blog.services.impl;
+
+import com.ohdeerit.blog.services.interfaces.SuggestService;
+import com.ohdeerit.blog.services.interfaces.PostIndex;
+import com.ohdeerit.blog.models.enums.SuggestionType;
+import com.ohdeerit.blog.models.dtos.SuggestionDto;
+import com.ohdeerit.blog.models.dtos.CategoryDto;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.stereotype.Service;
+import com.ohdeerit.blog.models.dtos.PostDto;
+import com.ohdeerit.blog.models.dtos.TagDto;
+import com.ohdeerit.blog.utils.TokenizerUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Prefix completion over published post titles and the tags and categories they use. Every word of a
+ * suggestion starts a key, so "tatry" completes "Wędrówka w Tatry". Suggestions are ranked by the creation
+ * time of the newest published post behind them.
+ * <p>
+ * Queries read an immutable radix trie whose nodes hold their best completions, so a lookup only walks the
+ * prefix. Writes rebuild the trie from the indexed posts and swap it in; readers never take a lock. A full
+ * rebuild builds it once, when it is published.
+ */
+@Slf4j
+@Service
+public class SuggestServiceImpl implements SuggestService, PostIndex {
+
+    private static final int MAX_LIMIT = 10;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private Map<UUID, IndexedPost> posts = new HashMap<>();
+    private volatile SuggestTrie trie = SuggestTrie.EMPTY;
+
+    private record IndexedPost(
+            UUID id,
+            String title,
+            String slug,
+            CategoryDto category,
+            Set<TagDto> tags,
+            long weight
+    ) {
+    }
+
+    private record WeightedSuggestion(SuggestionDto suggestion, long weight) {
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(final String prefix, final int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Suggest prefix must not be blank");
+        }
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Suggest limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        final String normalized = TokenizerUtil.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        return trie.complete(truncate(normalized), limit);
+    }
+
+    @Override
+    public synchronized void index(final PostDto post) {
+        put(posts, post);
+        trie = buildTrie(posts.values());
+
+        log.debug("[SuggestService.index] Indexed post '{}' ({})", post.id(), post.status());
+    }
+
+    @Override
+    public Rebuild rebuild() {
+        final Map<UUID, IndexedPost> rebuilt = new HashMap<>();
+
+        return new Rebuild() {
+            @Override
+            public void index(final PostDto post) {
+                put(rebuilt, post);
+            }
+
+            @Override
+            public void publish() {
+                final SuggestTrie rebuiltTrie = buildTrie(rebuilt.values());
+
+                synchronized (SuggestServiceImpl.this) {
+                    posts = rebuilt;
+                    trie = rebuiltTrie;
+                }
+
+                log.debug("[SuggestService.rebuild] Built suggestions for {} posts", rebuilt.size());
+            }
+        };
+    }
+
+    private static void put(final Map<UUID, IndexedPost> posts, final PostDto post) {
+        if (!PostStatus.PUBLISHED.equals(post.status())) {
+            posts.remove(post.id());
+            return;
+        }
+
+        final Set<TagDto> tags = post.tags() == null ? Set.of() : Set.copyOf(post.tags());
+
+        posts.put(post.id(), new IndexedPost(post.id(), post.title(), post.slug(), post.category(), tags,
+                weight(post.createdAt())));
+    }
+
+    private static SuggestTrie buildTrie(final Collection<IndexedPost> posts) {
+        final Map<UUID, WeightedSuggestion> terms = new HashMap<>();
+        final List<WeightedSuggestion> suggestions = new ArrayList<>(posts.size());
+
+        for (IndexedPost post : posts) {
+            suggestions.add(new WeightedSuggestion(
+                    new SuggestionDto(SuggestionType.POST, post.id(), post.title(), post.slug()), post.weight()));
+
+            if (post.category() != null) {
+                mergeTerm(terms, SuggestionType.CATEGORY, post.category().id(), post.category().name(), post.weight());
+            }
+
+            for (TagDto tag : post.tags()) {
+                mergeTerm(terms, SuggestionType.TAG, tag.id(), tag.name(), post.weight());
+            }
+        }
+
+        suggestions.addAll(terms.values());
+        suggestions.sort(Comparator.comparingLong(WeightedSuggestion::weight).reversed()
+                .thenComparing(weighted -> weighted.suggestion().text(),
+                        Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return SuggestTrie.build(suggestions.stream().map(WeightedSuggestion::suggestion).toList());
+    }
+
+    private static void mergeTerm(final Map<UUID, WeightedSuggestion> terms, final SuggestionType type,
+                                  final UUID id, final String name, final long weight) {
+        terms.merge(id, new WeightedSuggestion(new SuggestionDto(type, id, name, null), weight),
+                (current, candidate) -> candidate.weight() > current.weight() ? candidate : current);
+    }
+
+    private static long weight(final LocalDateTime createdAt) {
+        return createdAt == null ? Long.MIN_VALUE : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String truncate(final String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * Radix trie over the word suffixes of every suggestion. Suggestions are numbered by rank, so each node
+     * keeps the {@link #MAX_LIMIT} smallest distinct numbers found in its subtree.
+     */
+    private static final class SuggestTrie {
+
+        private static final SuggestTrie EMPTY =
+                new SuggestTrie(List.of(), new Node("", new char[0], new Node[0], new int[0]));
+
+        private final List<SuggestionDto> suggestions;
+        private final Node root;
+
+        private record Node(String label, char[] firstChars, Node[] children, int[] top) {
+        }
+
+        private record Key(String text, int rank) {
+        }
+
+        private SuggestTrie(final List<SuggestionDto> suggestions, final Node root) {
+            this.suggestions = suggestions;
+            this.root = root;
+        }
+
+        static SuggestTrie build(final List<SuggestionDto> rankedSuggestions) {
+            final List<Key> keys = new ArrayList<>();
+
+            for (int rank = 0; rank < rankedSuggestions.size(); rank++) {
+                final String text = TokenizerUtil.normalize(rankedSuggestions.get(rank).text());
+
+                for (int start = 0; start < text.length(); start++) {
+                    if (start == 0 || text.charAt(start - 1) == ' ') {
+                        keys.add(new Key(truncate(text.substring(start)), rank));
+                    }
+                }
+            }
+
+            if (keys.isEmpty()) {
+                return EMPTY;
+            }
+
+            keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::rank));
+
+            return new SuggestTrie(rankedSuggestions, buildNode(keys, 0, keys.size(), "", 0));
+        }
+
+        List<SuggestionDto> complete(final String prefix, final int limit) {
+            Node node = root;
+            int position = 0;
+
+            while (position < prefix.length()) {
+                final int childIndex = Arrays.binarySearch(node.firstChars(), prefix.charAt(position));
+                if (childIndex < 0) {
+                    return List.of();
+                }
+
+                final Node child = node.children()[childIndex];
+                final int length = Math.min(child.label().length(), prefix.length() - position);
+                if (!prefix.regionMatches(position, child.label(), 0, length)) {
+                    return List.of();
+                }
+
+                position += length;
+                node = child;
+            }
+
+            final int count = Math.min(limit, node.top().length);
+            final List<SuggestionDto> completions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                completions.add(suggestions.get(node.top()[i]));
+            }
+
+            return completions;
+        }
+
+        /**
+         * Builds the node for keys[from, to), which all share their first {@code depth} characters.
+         */
+        private static Node buildNode(final List<Key> keys, int from, final int to, final String label,
+                                      final int depth) {
+            final List<Integer> ranks = new ArrayList<>();
+
+            while (from < to && keys.get(from).text().length() == depth) {
+                ranks.add(keys.get(from).rank());
+                from++;
+            }
+
+            final List<Node> children = new ArrayList<>();
+
+            while (from < to) {
+                final char first = keys.get(from).text().charAt(depth);
+                int groupEnd = from + 1;
+                while (groupEnd < to && keys.get(groupEnd).text().charAt(depth) == first) {
+                    groupEnd++;
+                }
+
+                final String firstText = keys.get(from).text();
+                final int commonLength = commonPrefixLength(firstText, keys.get(groupEnd - 1).text());
+                final Node child = buildNode(keys, from, groupEnd, firstText.substring(depth, commonLength),
+                        commonLength);
+
+                children.add(child);
+                for (int rank : child.top()) {
+                    ranks.add(rank);
+                }
+
+                from = groupEnd;
+            }
+
+            final char[] firstChars = new char[children.size()];
+            for (int i = 0; i < firstChars.length; i++) {
+                firstChars[i] = children.get(i).label().charAt(0);
+            }
+
+            return new Node(label, firstChars, children.toArray(new Node[0]), topRanks(ranks));
+        }
+
+        private static int[] topRanks(final List<Integer> ranks) {
+            return ranks.stream()
+                    .mapToInt(Integer::intValue)
+                    .sorted()
+                    .distinct()
+                    .limit(MAX_LIMIT)
+                    .toArray();
+        }
+
+        private static int commonPrefixLength(final String first, final String second) {
+            final int length = Math.min(first.length(), second.length());
+            int i = 0;
+            while (i < length && first.charAt(i) == second.charAt(i)) {
+                i++;
+            }
+
+            return i;
+        }
+    }
+}
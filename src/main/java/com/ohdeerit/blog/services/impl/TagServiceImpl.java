@@ -1,5 +1,9 @@
 package com.ohdeerit.blog.services.impl;
 
+import org.springframework.context.ApplicationEventPublisher;
+import com.ohdeerit.blog.models.events.ContentChangedEvent;
+import com.ohdeerit.blog.models.projections.PostCountProjection;
+import com.ohdeerit.blog.repositories.PostRepository;
 import com.ohdeerit.blog.repositories.TagRepository;
 import com.ohdeerit.blog.models.entities.TagEntity;
 import jakarta.persistence.EntityNotFoundException;
@@ -8,6 +12,7 @@ import com.ohdeerit.blog.services.mappers.TagServiceMapper;
 import org.springframework.stereotype.Service;
 import com.ohdeerit.blog.services.interfaces.TagService;
 import com.ohdeerit.blog.models.dtos.TagDto;
+import com.ohdeerit.blog.models.enums.PostStatus;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -19,14 +24,17 @@ import java.util.*;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final PostRepository postRepository;
 
     private final TagServiceMapper tagMapper;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<TagDto> getTags() {
-        final List<TagEntity> tagEntities = tagRepository.findAllWithPostCount();
+        final List<PostCountProjection> tags = tagRepository.findAllWithPostCount(PostStatus.PUBLISHED);
 
-        return tagEntities.stream().map(tagMapper::map).toList();
+        return tags.stream().map(tagMapper::map).toList();
     }
 
     @Override
@@ -51,6 +59,21 @@ public class TagServiceImpl implements TagService {
     public List<TagDto> createTags(Set<CreateTagDto> names) {
         final List<String> tagNames = names.stream().map(CreateTagDto::name).toList();
 
+        getOrCreateTags(tagNames);
+
+        return tagRepository.findAllWithPostCountByNameIn(PostStatus.PUBLISHED, tagNames).stream()
+                .map(tagMapper::map)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<TagEntity> getOrCreateTags(Collection<String> names) {
+        final List<String> tagNames = names.stream().distinct().toList();
+        if (tagNames.isEmpty()) {
+            return List.of();
+        }
+
         final List<TagEntity> existingTags = tagRepository.findByNameIn(tagNames);
 
         final Set<String> existingTagNames = existingTags.stream()
@@ -65,25 +88,29 @@ public class TagServiceImpl implements TagService {
                         .build())
                 .toList();
 
-        List<TagEntity> savedTags = new ArrayList<>();
-
-        if (!tagsToCreate.isEmpty()) {
-            savedTags = tagRepository.saveAll(tagsToCreate);
+        if (tagsToCreate.isEmpty()) {
+            return existingTags;
         }
 
-        savedTags.addAll(existingTags);
+        final List<TagEntity> tags = new ArrayList<>(existingTags);
+        tags.addAll(tagRepository.saveAll(tagsToCreate));
+        eventPublisher.publishEvent(new ContentChangedEvent("tags " + tagNames));
 
-        return savedTags.stream().map(tagMapper::map).toList();
+        return tags;
     }
 
     @Override
     @Transactional
     public void deleteTag(UUID id) {
-        tagRepository.findById(id).ifPresent(tag -> {
-            if (!tag.getPosts().isEmpty()) {
-                throw new IllegalStateException("Tag with id " + id + " has posts");
-            }
-            tagRepository.deleteById(id);
-        });
+        if (!tagRepository.existsById(id)) {
+            return;
+        }
+
+        if (postRepository.existsByTagsId(id)) {
+            throw new IllegalStateException("Tag with id " + id + " has posts");
+        }
+
+        tagRepository.deleteById(id);
+        eventPublisher.publishEvent(new ContentChangedEvent("tag " + id));
     }
 }
@@ -0,0 +1,9 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.ArchiveYearDto;
+
+import java.util.List;
+
+public interface ArchiveService {
+    List<ArchiveYearDto> getArchive();
+}
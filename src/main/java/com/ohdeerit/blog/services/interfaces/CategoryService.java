@@ -4,6 +4,7 @@ import com.ohdeerit.blog.models.entities.CategoryEntity;
 import com.ohdeerit.blog.models.dtos.CreateCategoryDto;
 import com.ohdeerit.blog.models.dtos.CategoryDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +16,9 @@ public interface CategoryService {
     void deleteCategory(UUID id);
 
     CategoryEntity getCategory(UUID id);
+
+    /**
+     * Returns the categories with the given names, creating the missing ones.
+     */
+    List<CategoryEntity> getOrCreateCategories(Collection<String> names);
 }
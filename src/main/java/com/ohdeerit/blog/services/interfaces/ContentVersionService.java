@@ -0,0 +1,5 @@
+package com.ohdeerit.blog.services.interfaces;
+
+public interface ContentVersionService {
+    long getVersion();
+}
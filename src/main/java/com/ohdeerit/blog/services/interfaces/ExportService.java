@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import java.io.OutputStream;
+import java.io.IOException;
+
+public interface ExportService {
+
+    /**
+     * Writes every post, then every media row, to the stream as NDJSON: one JSON object per line, tagged with
+     * its {@code type}.
+     */
+    void export(OutputStream outputStream) throws IOException;
+}
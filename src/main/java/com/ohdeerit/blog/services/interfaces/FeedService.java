@@ -0,0 +1,13 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.FeedDto;
+
+import java.util.UUID;
+
+public interface FeedService {
+    FeedDto getFeed();
+
+    FeedDto getCategoryFeed(UUID categoryId);
+
+    FeedDto getSitemap();
+}
@@ -0,0 +1,18 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.ImportProgressDto;
+
+import java.util.function.Consumer;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface ImportService {
+
+    /**
+     * Upserts the posts of an NDJSON export, with their categories and tags, in batches. Posts are matched by
+     * slug, and posts without one are created under a unique slug derived from their title. Posts whose author
+     * does not exist are assigned to {@code userId}. Media records are skipped. Interrupting the calling thread
+     * cancels the import before its next batch, keeping the batches committed so far.
+     */
+    ImportProgressDto importRecords(InputStream inputStream, UUID userId, Consumer<ImportProgressDto> progress);
+}
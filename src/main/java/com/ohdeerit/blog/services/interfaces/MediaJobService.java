@@ -0,0 +1,16 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.CreateMediaDto;
+import com.ohdeerit.blog.models.dtos.MediaJobDto;
+
+import java.util.UUID;
+
+public interface MediaJobService {
+
+    /**
+     * Validates and stages the uploaded files, then queues the media to be created in the background.
+     */
+    MediaJobDto submit(CreateMediaDto createMediaDto);
+
+    MediaJobDto getJob(UUID id);
+}
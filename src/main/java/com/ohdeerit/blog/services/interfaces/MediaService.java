@@ -6,10 +6,19 @@ import org.springframework.data.domain.Pageable;
 import com.ohdeerit.blog.models.dtos.MediaDto;
 import org.springframework.data.domain.Slice;
 
+import java.util.function.IntConsumer;
+
 public interface MediaService {
     MediaDto createMedia(CreateMediaDto createMediaDto);
 
+    /**
+     * Creates the media, reporting the number of files saved so far to {@code progress} as each one finishes.
+     */
+    MediaDto createMedia(CreateMediaDto createMediaDto, IntConsumer progress);
+
     Slice<MediaDto> getMedia(Pageable pageable);
 
+    Slice<MediaDto> getMediaBefore(Integer id, Pageable pageable);
+
     MediaEntity getMedia(Integer id);
 }
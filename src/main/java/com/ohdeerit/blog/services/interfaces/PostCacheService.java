@@ -0,0 +1,20 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.CacheStatsDto;
+import com.ohdeerit.blog.models.dtos.PostDto;
+
+import java.util.function.Function;
+import java.util.List;
+import java.util.UUID;
+
+public interface PostCacheService {
+    PostDto getPost(UUID id, Function<UUID, PostDto> loader);
+
+    PostDto getCachedPost(UUID id);
+
+    UUID getPostId(String slug, Function<String, UUID> loader);
+
+    void evict(UUID id, String slug);
+
+    List<CacheStatsDto> getStats();
+}
@@ -0,0 +1,14 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.PostSummaryDto;
+import com.ohdeerit.blog.models.dtos.PostFacetsDto;
+import com.ohdeerit.blog.models.dtos.PostCursorDto;
+import com.ohdeerit.blog.models.dtos.PostFilterDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface PostFilterService {
+    Slice<PostSummaryDto> getPosts(PostFilterDto filter, PostCursorDto cursor, Pageable pageable);
+
+    PostFacetsDto getFacets(PostFilterDto filter);
+}
@@ -0,0 +1,31 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.PostDto;
+
+/**
+ * In-memory view over published posts, kept in sync by {@link PostIndexingService}.
+ */
+public interface PostIndex {
+    /**
+     * Adds or replaces the post, or removes it when it is no longer published.
+     */
+    void index(PostDto post);
+
+    /**
+     * Starts an empty copy of the index that is filled off to the side. Readers keep the current state until
+     * the copy is published.
+     */
+    Rebuild rebuild();
+
+    interface Rebuild {
+        /**
+         * Adds or replaces the post in the copy, or removes it when it is no longer published.
+         */
+        void index(PostDto post);
+
+        /**
+         * Swaps the copy in for the current state, atomically for readers.
+         */
+        void publish();
+    }
+}
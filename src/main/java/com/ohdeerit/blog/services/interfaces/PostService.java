@@ -1,23 +1,31 @@
 package com.ohdeerit.blog.services.interfaces;
 
+import com.ohdeerit.blog.models.dtos.PostSummaryDto;
+import com.ohdeerit.blog.models.dtos.PostCursorDto;
 import com.ohdeerit.blog.models.dtos.CreatePostDto;
 import com.ohdeerit.blog.models.dtos.UpdatePostDto;
 import org.springframework.data.domain.Pageable;
 import com.ohdeerit.blog.models.dtos.PostDto;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.UUID;
 
 public interface PostService {
     PostDto getPost(UUID id);
 
-    Slice<PostDto> getPosts(UUID categoryId, UUID tagId, Pageable pageable);
+    Slice<PostSummaryDto> getPosts(PostCursorDto cursor, Pageable pageable);
 
-    Slice<PostDto> getAllPosts(Pageable pageable);
+    Slice<PostSummaryDto> getArchivePosts(YearMonth month, PostCursorDto cursor, Pageable pageable);
+
+    Slice<PostSummaryDto> getAllPosts(PostCursorDto cursor, Pageable pageable);
 
     PostDto createPost(CreatePostDto post, UUID userId);
 
     PostDto updatePost(UpdatePostDto post, UUID userId);
 
-    PostDto getPostBySlug(String slug);
+    UUID getPostId(String slug);
+
+    LocalDateTime getPostUpdatedAt(UUID id);
 }
@@ -0,0 +1,21 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import java.util.List;
+
+public interface PostSlugService {
+
+    /**
+     * Reserves a unique slug for a post title, suffixed with {@code -2}, {@code -3}, … when already taken.
+     */
+    String reserve(String title);
+
+    /**
+     * Reserves unique slugs for a batch of titles, in order, so titles within the batch never collide either.
+     */
+    List<String> reserveAll(List<String> titles);
+
+    /**
+     * Marks a slug chosen elsewhere, e.g. kept from an import, as taken.
+     */
+    void register(String slug);
+}
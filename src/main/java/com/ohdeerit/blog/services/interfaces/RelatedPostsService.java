@@ -0,0 +1,10 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.RelatedPostDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RelatedPostsService {
+    List<RelatedPostDto> getRelatedPosts(UUID postId, int limit);
+}
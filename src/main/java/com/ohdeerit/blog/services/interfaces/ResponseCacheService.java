@@ -0,0 +1,14 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.CachedResponseDto;
+import com.ohdeerit.blog.models.dtos.CacheStatsDto;
+
+public interface ResponseCacheService {
+    CachedResponseDto get(String key);
+
+    void put(String key, CachedResponseDto response);
+
+    void invalidateAll();
+
+    CacheStatsDto getStats();
+}
@@ -0,0 +1,9 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.PostSearchHitDto;
+
+import java.util.List;
+
+public interface SearchService {
+    List<PostSearchHitDto> search(String query, int limit);
+}
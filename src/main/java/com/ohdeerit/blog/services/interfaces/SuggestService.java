@@ -0,0 +1,9 @@
+package com.ohdeerit.blog.services.interfaces;
+
+import com.ohdeerit.blog.models.dtos.SuggestionDto;
+
+import java.util.List;
+
+public interface SuggestService {
+    List<SuggestionDto> suggest(String prefix, int limit);
+}
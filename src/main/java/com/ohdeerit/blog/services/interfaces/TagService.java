@@ -4,6 +4,7 @@ import com.ohdeerit.blog.models.dtos.CreateTagDto;
 import com.ohdeerit.blog.models.dtos.TagDto;
 import com.ohdeerit.blog.models.entities.TagEntity;
 
+import java.util.Collection;
 import java.util.UUID;
 import java.util.List;
 import java.util.Set;
@@ -17,5 +18,10 @@ public interface TagService {
 
     List<TagDto> createTags(Set<CreateTagDto> names);
 
+    /**
+     * Returns the tags with the given names, creating the missing ones.
+     */
+    List<TagEntity> getOrCreateTags(Collection<String> names);
+
     void deleteTag(UUID id);
 }
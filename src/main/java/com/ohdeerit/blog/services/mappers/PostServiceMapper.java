@@ -1,15 +1,68 @@
 package com.ohdeerit.blog.services.mappers;
 
+import com.ohdeerit.blog.models.projections.PostSummaryProjection;
+import com.ohdeerit.blog.models.dtos.PostSummaryDto;
 import com.ohdeerit.blog.models.entities.PostEntity;
+import com.ohdeerit.blog.models.dtos.CategoryDto;
 import com.ohdeerit.blog.models.dtos.PostDto;
+import com.ohdeerit.blog.models.dtos.TagDto;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mapper;
 
+import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.Set;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = MediaServiceMapper.class)
 public interface PostServiceMapper {
 
-    @Mapping(target = "thumbnail", source = "thumbnailHash")
+    @Mapping(target = "thumbnail", source = "thumbnailName")
     PostDto map(PostEntity post);
 
+    default PostSummaryDto map(PostSummaryProjection summary, Set<String> tags) {
+        if (summary == null) {
+            return null;
+        }
+
+        return new PostSummaryDto(
+                summary.id(),
+                summary.title(),
+                summary.slug(),
+                summary.shortDescription(),
+                summary.thumbnail(),
+                summary.status(),
+                new CategoryDto(summary.categoryId(), summary.categoryName(), null),
+                tags,
+                summary.readingTime(),
+                summary.createdAt()
+        );
+    }
+
+    default PostSummaryDto toSummary(PostDto post) {
+        if (post == null) {
+            return null;
+        }
+
+        final CategoryDto category = post.category() == null
+                ? null
+                : new CategoryDto(post.category().id(), post.category().name(), null);
+
+        final Set<String> tags = post.tags() == null
+                ? Set.of()
+                : post.tags().stream().map(TagDto::name).collect(Collectors.toCollection(TreeSet::new));
+
+        return new PostSummaryDto(
+                post.id(),
+                post.title(),
+                post.slug(),
+                post.shortDescription(),
+                post.thumbnail(),
+                post.status(),
+                category,
+                tags,
+                post.readingTime(),
+                post.createdAt()
+        );
+    }
 }
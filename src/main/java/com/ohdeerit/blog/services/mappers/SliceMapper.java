@@ -4,10 +4,22 @@ import com.ohdeerit.blog.api.response.SliceResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.data.domain.Slice;
 
+import java.util.function.Function;
+
 @Component
 public class SliceMapper {
 
     public <T> SliceResponse<T> toSliceResponse(Slice<T> slice) {
+        return toSliceResponse(slice, null);
+    }
+
+    public <T> SliceResponse<T> toSliceResponse(Slice<T> slice, Function<T, String> cursorExtractor) {
+        String nextCursor = null;
+
+        if (cursorExtractor != null && slice.hasNext() && slice.hasContent()) {
+            nextCursor = cursorExtractor.apply(slice.getContent().getLast());
+        }
+
         return new SliceResponse<>(
                 slice.getContent(),
                 slice.getNumber(),
@@ -15,7 +27,8 @@ public class SliceMapper {
                 slice.hasNext(),
                 slice.getNumberOfElements(),
                 slice.isFirst(),
-                slice.isLast()
+                slice.isLast(),
+                nextCursor
         );
     }
 }
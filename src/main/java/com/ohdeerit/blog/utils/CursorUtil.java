@@ -0,0 +1,70 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.dtos.PostCursorDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+public class CursorUtil {
+
+    private static final char SEPARATOR = '|';
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static String encodePostCursor(final LocalDateTime createdAt, final UUID id) {
+        return encode(createdAt.toString() + SEPARATOR + id);
+    }
+
+    public static PostCursorDto decodePostCursor(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        final String decoded = decode(cursor);
+        final int separatorIndex = decoded.indexOf(SEPARATOR);
+
+        if (separatorIndex == -1) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        try {
+            final LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, separatorIndex));
+            final UUID id = UUID.fromString(decoded.substring(separatorIndex + 1));
+
+            return new PostCursorDto(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public static String encodeMediaCursor(final Integer id) {
+        return encode(id.toString());
+    }
+
+    public static Integer decodeMediaCursor(final String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static String encode(final String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(final String cursor) {
+        try {
+            return new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ohdeerit.blog.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.StringJoiner;
+
+public class ETagUtil {
+
+    public static String of(final long contentVersion) {
+        return "\"" + contentVersion + "\"";
+    }
+
+    public static String of(final long contentVersion, final LocalDateTime updatedAt) {
+        final StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+
+        joiner.add(Long.toString(contentVersion));
+        joiner.add(Long.toString(updatedAt.toEpochSecond(ZoneOffset.UTC)));
+
+        return joiner.toString();
+    }
+}
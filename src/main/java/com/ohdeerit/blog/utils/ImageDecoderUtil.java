@@ -0,0 +1,97 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.enums.ThumbnailMethod;
+import com.ohdeerit.blog.models.dtos.DecodedImageDto;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.util.Iterator;
+import java.nio.file.Path;
+import java.awt.Rectangle;
+import java.util.List;
+
+public class ImageDecoderUtil {
+
+    /**
+     * Decodes only as much of the image as the thumbnails need. The header is read first; the raster is then
+     * decoded at the coarsest subsampling that still covers the largest thumbnail, and, when every thumbnail
+     * is a CROP, only the centred region those crops keep.
+     */
+    public static DecodedImageDto decode(final Path path, final List<ThumbnailDto> thumbnails) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(path.toFile())) {
+            final ImageReader reader = reader(inputStream);
+
+            try {
+                reader.setInput(inputStream, true, true);
+
+                final int width = reader.getWidth(0);
+                final int height = reader.getHeight(0);
+                final Rectangle region = cropRegion(width, height, thumbnails);
+
+                final int subsampling = subsampling(region.width, region.height, thumbnails);
+                final ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                if (region.width < width || region.height < height) {
+                    param.setSourceRegion(region);
+                }
+
+                return new DecodedImageDto(reader.read(0, param), region.width, region.height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Largest pixel step that still leaves at least as many pixels as the largest thumbnail needs.
+     */
+    public static int subsampling(final int width, final int height, final List<ThumbnailDto> thumbnails) {
+        final double scale = thumbnails.stream()
+                .mapToDouble(thumbnailDto -> ThumbnailRendererUtil.sourceScale(width, height, thumbnailDto))
+                .max()
+                .orElse(1.0);
+
+        return Math.max(1, (int) Math.floor(1 / scale));
+    }
+
+    /**
+     * Centred area holding every crop, or the whole image unless all thumbnails are crops. A centre crop of
+     * this area keeps the same pixels as a centre crop of the whole image.
+     */
+    public static Rectangle cropRegion(final int width, final int height, final List<ThumbnailDto> thumbnails) {
+        if (thumbnails.isEmpty()
+                || !thumbnails.stream().allMatch(thumbnailDto -> thumbnailDto.method() == ThumbnailMethod.CROP)) {
+            return new Rectangle(0, 0, width, height);
+        }
+
+        int regionWidth = 0;
+        int regionHeight = 0;
+
+        for (ThumbnailDto thumbnailDto : thumbnails) {
+            regionWidth = Math.max(regionWidth, (int) Math.min(width,
+                    Math.ceil((double) height * thumbnailDto.width() / thumbnailDto.height())));
+            regionHeight = Math.max(regionHeight, (int) Math.min(height,
+                    Math.ceil((double) width * thumbnailDto.height() / thumbnailDto.width())));
+        }
+
+        return new Rectangle((width - regionWidth) / 2, (height - regionHeight) / 2, regionWidth, regionHeight);
+    }
+
+    private static ImageReader reader(final ImageInputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            throw new IOException("Could not read image from file");
+        }
+
+        final Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+        if (!readers.hasNext()) {
+            throw new IOException("Could not read image from file");
+        }
+
+        return readers.next();
+    }
+}
@@ -0,0 +1,174 @@
+package com.ohdeerit.blog.utils;
+
+import java.util.*;
+
+/**
+ * Replaces many literal patterns in one pass over the text with an Aho–Corasick automaton. Where matches
+ * overlap, the one starting first wins, and of those the longest. Replacement text is never rescanned.
+ * Instances are immutable and thread-safe.
+ */
+public final class MultiPatternReplacer {
+
+    private static final MultiPatternReplacer EMPTY = new MultiPatternReplacer(Map.of());
+    private static final int ASCII = 128;
+
+    private final String[] patterns;
+    private final String[] replacements;
+
+    private final char[] alphabet;
+    private final int[] asciiClasses = new int[ASCII];
+    private final int classCount;
+
+    // Transition of node n on character class c at n * classCount + c; class 0 matches no pattern
+    private final int[] transitions;
+    private final int[] outputs;
+    private final int[] outputLinks;
+
+    // Matches as {start, pattern}: leftmost first, then longest
+    private final Comparator<int[]> matchOrder;
+
+    private MultiPatternReplacer(final Map<String, String> replacementsByPattern) {
+        final List<String> patternList = new ArrayList<>();
+        final SortedSet<Character> characters = new TreeSet<>();
+
+        replacementsByPattern.forEach((pattern, replacement) -> {
+            if (pattern != null && !pattern.isEmpty() && replacement != null) {
+                patternList.add(pattern);
+                pattern.chars().forEach(c -> characters.add((char) c));
+            }
+        });
+
+        this.patterns = patternList.toArray(String[]::new);
+        this.replacements = patternList.stream().map(replacementsByPattern::get).toArray(String[]::new);
+        this.matchOrder = Comparator.<int[]>comparingInt(match -> match[0])
+                .thenComparing(match -> patterns[match[1]].length(), Comparator.reverseOrder());
+
+        this.alphabet = new char[characters.size()];
+        int index = 0;
+        for (char c : characters) {
+            alphabet[index++] = c;
+        }
+
+        this.classCount = alphabet.length + 1;
+        for (char c = 0; c < ASCII; c++) {
+            asciiClasses[c] = Math.max(0, Arrays.binarySearch(alphabet, c) + 1);
+        }
+
+        final List<int[]> trie = new ArrayList<>();
+        final List<Integer> nodeOutputs = new ArrayList<>();
+        trie.add(new int[classCount]);
+        nodeOutputs.add(-1);
+
+        for (int p = 0; p < patterns.length; p++) {
+            int node = 0;
+            for (int i = 0; i < patterns[p].length(); i++) {
+                final int charClass = charClass(patterns[p].charAt(i));
+                if (trie.get(node)[charClass] == 0) {
+                    trie.get(node)[charClass] = trie.size();
+                    trie.add(new int[classCount]);
+                    nodeOutputs.add(-1);
+                }
+                node = trie.get(node)[charClass];
+            }
+            nodeOutputs.set(node, p);
+        }
+
+        final int nodeCount = trie.size();
+        this.transitions = new int[nodeCount * classCount];
+        this.outputs = nodeOutputs.stream().mapToInt(Integer::intValue).toArray();
+        this.outputLinks = new int[nodeCount];
+
+        buildAutomaton(trie);
+    }
+
+    public static MultiPatternReplacer of(final Map<String, String> replacementsByPattern) {
+        return replacementsByPattern == null || replacementsByPattern.isEmpty()
+                ? EMPTY
+                : new MultiPatternReplacer(replacementsByPattern);
+    }
+
+    public String replace(final String text) {
+        if (text == null || patterns.length == 0) {
+            return text;
+        }
+
+        final List<int[]> matches = new ArrayList<>();
+        int node = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            node = transitions[node * classCount + charClass(text.charAt(i))];
+
+            int output = outputs[node] >= 0 ? node : outputLinks[node];
+            while (output > 0) {
+                final int pattern = outputs[output];
+                matches.add(new int[]{i + 1 - patterns[pattern].length(), pattern});
+                output = outputLinks[output];
+            }
+        }
+
+        if (matches.isEmpty()) {
+            return text;
+        }
+
+        matches.sort(matchOrder);
+
+        final StringBuilder result = new StringBuilder(text.length());
+        int copiedUntil = 0;
+
+        for (int[] match : matches) {
+            final int start = match[0];
+            if (start < copiedUntil) {
+                continue;
+            }
+
+            result.append(text, copiedUntil, start).append(replacements[match[1]]);
+            copiedUntil = start + patterns[match[1]].length();
+        }
+
+        return result.append(text, copiedUntil, text.length()).toString();
+    }
+
+    private int charClass(final char c) {
+        if (c < ASCII) {
+            return asciiClasses[c];
+        }
+
+        return Math.max(0, Arrays.binarySearch(alphabet, c) + 1);
+    }
+
+    /**
+     * Turns the trie into a complete transition table, breadth first, and links every node to the nearest
+     * node on its failure chain that ends a pattern.
+     */
+    private void buildAutomaton(final List<int[]> trie) {
+        final int[] failures = new int[trie.size()];
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+        for (int charClass = 1; charClass < classCount; charClass++) {
+            final int child = trie.get(0)[charClass];
+            transitions[charClass] = child;
+            if (child != 0) {
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            final int failure = failures[node];
+            outputLinks[node] = outputs[failure] >= 0 ? failure : outputLinks[failure];
+
+            for (int charClass = 1; charClass < classCount; charClass++) {
+                final int child = trie.get(node)[charClass];
+                final int fallback = transitions[failure * classCount + charClass];
+
+                if (child == 0) {
+                    transitions[node * classCount + charClass] = fallback;
+                } else {
+                    failures[child] = fallback;
+                    transitions[node * classCount + charClass] = child;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+}
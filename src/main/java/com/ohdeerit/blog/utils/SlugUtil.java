@@ -0,0 +1,82 @@
+package com.ohdeerit.blog.utils;
+
+import java.util.UUID;
+
+public class SlugUtil {
+
+    /**
+     * Builds a URL slug in one pass: lower-cases, folds Polish diacritics, keeps ASCII letters and digits, turns
+     * runs of whitespace and hyphens into a single hyphen and drops everything else. The slug is cut to
+     * {@code maxLength} without a trailing hyphen. Text with nothing left to keep gets a random UUID instead.
+     */
+    public static String slugify(final String text, final int maxLength) {
+        final StringBuilder slug = new StringBuilder(text == null ? 0 : Math.min(text.length(), maxLength));
+        boolean pendingHyphen = false;
+
+        for (int i = 0; text != null && i < text.length() && slug.length() < maxLength; i++) {
+            final char c = TokenizerUtil.foldDiacritic(Character.toLowerCase(text.charAt(i)));
+
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (pendingHyphen) {
+                    slug.append('-');
+                    pendingHyphen = false;
+                }
+
+                if (slug.length() < maxLength) {
+                    slug.append(c);
+                }
+            } else if (c == '-' || Character.isWhitespace(c)) {
+                pendingHyphen = !slug.isEmpty();
+            }
+        }
+
+        trimHyphens(slug);
+
+        return slug.isEmpty() ? UUID.randomUUID().toString() : slug.toString();
+    }
+
+    /**
+     * Appends {@code -suffix} to a slug, cutting the slug first so the result fits in {@code maxLength}.
+     */
+    public static String withSuffix(final String slug, final int suffix, final int maxLength) {
+        final String suffixText = "-" + suffix;
+        final StringBuilder base = new StringBuilder(slug);
+
+        if (base.length() + suffixText.length() > maxLength) {
+            base.setLength(Math.max(0, maxLength - suffixText.length()));
+            trimHyphens(base);
+        }
+
+        return base.append(suffixText).toString();
+    }
+
+    /**
+     * Checks that a slug matches the {@code chk_posts_slug_format} constraint: lower-case ASCII letters and digits
+     * in runs joined by single hyphens, at most {@code maxLength} characters.
+     */
+    public static boolean isSlug(final String slug, final int maxLength) {
+        if (slug == null || slug.isEmpty() || slug.length() > maxLength) {
+            return false;
+        }
+
+        for (int i = 0; i < slug.length(); i++) {
+            final char c = slug.charAt(i);
+
+            if (c == '-') {
+                if (i == 0 || i == slug.length() - 1 || slug.charAt(i - 1) == '-') {
+                    return false;
+                }
+            } else if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static void trimHyphens(final StringBuilder slug) {
+        while (!slug.isEmpty() && slug.charAt(slug.length() - 1) == '-') {
+            slug.setLength(slug.length() - 1);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.dtos.DecodedImageDto;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import net.coobird.thumbnailator.geometry.Positions;
+import net.coobird.thumbnailator.Thumbnails;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.awt.*;
+
+public class ThumbnailRendererUtil {
+
+    /**
+     * Renders all thumbnails from one decoded original, returned in the order given. Thumbnails are rendered
+     * from the largest to the smallest. Each comes from an intermediate copy scaled down just far enough for
+     * it, and that copy is the source of the next, smaller thumbnails, so the full-resolution raster is
+     * resampled once however many thumbnails there are.
+     */
+    public static List<BufferedImage> render(final BufferedImage original, final List<ThumbnailDto> thumbnails)
+            throws IOException {
+        return render(new DecodedImageDto(original, original.getWidth(), original.getHeight()), thumbnails);
+    }
+
+    /**
+     * Same pipeline starting from a subsampled decode; scales are taken against the full-resolution size the
+     * raster was decoded from, and the raster itself is only resampled further where it is still too large.
+     */
+    public static List<BufferedImage> render(final DecodedImageDto decoded, final List<ThumbnailDto> thumbnails)
+            throws IOException {
+        final int originalWidth = decoded.width();
+        final int originalHeight = decoded.height();
+
+        final int[] largestFirst = IntStream.range(0, thumbnails.size())
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer index) ->
+                        sourceScale(originalWidth, originalHeight, thumbnails.get(index))).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        final BufferedImage[] rendered = new BufferedImage[thumbnails.size()];
+        BufferedImage source = decoded.image();
+
+        for (int index : largestFirst) {
+            final ThumbnailDto thumbnailDto = thumbnails.get(index);
+            final double scale = sourceScale(originalWidth, originalHeight, thumbnailDto);
+            final int sourceWidth = (int) Math.ceil(originalWidth * scale);
+            final int sourceHeight = (int) Math.ceil(originalHeight * scale);
+
+            if (sourceWidth < source.getWidth() && sourceHeight < source.getHeight()) {
+                source = Thumbnails.of(source).forceSize(sourceWidth, sourceHeight).asBufferedImage();
+            }
+
+            rendered[index] = render(source, originalWidth, originalHeight, thumbnailDto);
+        }
+
+        return Arrays.asList(rendered);
+    }
+
+    /**
+     * Renders a single thumbnail straight from the original.
+     */
+    public static BufferedImage render(final BufferedImage original, final ThumbnailDto thumbnailDto)
+            throws IOException {
+        return render(original, original.getWidth(), original.getHeight(), thumbnailDto);
+    }
+
+    /**
+     * Scale of the original that still holds every pixel the thumbnail needs, never above 1.
+     */
+    public static double sourceScale(final int originalWidth, final int originalHeight,
+                                     final ThumbnailDto thumbnailDto) {
+        final double scaleX = (double) thumbnailDto.width() / originalWidth;
+        final double scaleY = (double) thumbnailDto.height() / originalHeight;
+
+        final double scale = switch (thumbnailDto.method()) {
+            case CROP, RESIZE, ADAPTIVE -> Math.max(scaleX, scaleY);
+            case FILL -> Math.min(scaleX, scaleY);
+            case PERCENT -> thumbnailDto.percent() / 100.0;
+        };
+
+        return Math.min(1.0, scale);
+    }
+
+    /**
+     * Renders from a source that may be a scaled-down copy; sizes relative to the original are taken from
+     * {@code originalWidth} and {@code originalHeight}.
+     */
+    private static BufferedImage render(final BufferedImage source, final int originalWidth,
+                                        final int originalHeight, final ThumbnailDto thumbnailDto)
+            throws IOException {
+        final int width = thumbnailDto.width();
+        final int height = thumbnailDto.height();
+
+        return switch (thumbnailDto.method()) {
+            case CROP -> Thumbnails.of(source).size(width, height).crop(Positions.CENTER).asBufferedImage();
+            case FILL -> fillImage(source, width, height);
+            case RESIZE, ADAPTIVE -> Thumbnails.of(source).forceSize(width, height).asBufferedImage();
+            case PERCENT -> Thumbnails.of(source)
+                    .forceSize(percentOf(originalWidth, thumbnailDto.percent()),
+                            percentOf(originalHeight, thumbnailDto.percent()))
+                    .asBufferedImage();
+        };
+    }
+
+    private static int percentOf(final int size, final int percent) {
+        return Math.max(1, (int) Math.round(size * percent / 100.0));
+    }
+
+    private static BufferedImage fillImage(final BufferedImage source, final int targetWidth, final int targetHeight)
+            throws IOException {
+        final double scale = Math.min((double) targetWidth / source.getWidth(),
+                (double) targetHeight / source.getHeight());
+
+        final int scaledWidth = Math.max(1, (int) (source.getWidth() * scale));
+        final int scaledHeight = Math.max(1, (int) (source.getHeight() * scale));
+
+        final BufferedImage resized = Thumbnails.of(source).size(scaledWidth, scaledHeight).asBufferedImage();
+
+        final BufferedImage canvas = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g2d = canvas.createGraphics();
+
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, targetWidth, targetHeight);
+        g2d.drawImage(resized, (targetWidth - scaledWidth) / 2, (targetHeight - scaledHeight) / 2, null);
+        g2d.dispose();
+
+        return canvas;
+    }
+}
@@ -2,6 +2,7 @@ package com.ohdeerit.blog.utils;
 
 import java.security.NoSuchAlgorithmException;
 import java.security.MessageDigest;
+import java.util.HexFormat;
 
 import com.ohdeerit.blog.models.dtos.ThumbnailDto;
 import com.ohdeerit.blog.models.enums.ThumbnailMethod;
@@ -22,16 +23,21 @@ public class ThumbnailUtil {
             final MessageDigest md = MessageDigest.getInstance("MD5");
             final byte[] messageDigest = md.digest(input.getBytes());
 
-            StringBuilder sb = new StringBuilder();
-
-            for (byte b : messageDigest) {
-                sb.append(String.format("%02x", b));
-            }
-
-            return sb.toString();
+            return HexFormat.of().formatHex(messageDigest);
         } catch (NoSuchAlgorithmException e) {
             log.error("[ThumbnailUtil.generateImageMd5Hash] MD5 algorithm not available", e);
             throw new RuntimeException("MD5 algorithm not available", e);
         }
     }
+
+    public static String generateThumbnailFileName(final String fileName, final ThumbnailDto thumbnailDto) {
+        if (fileName == null || fileName.isEmpty()) {
+            return fileName;
+        }
+
+        final String hash = generateImageMd5Hash(fileName, thumbnailDto);
+        final String extension = FileOperationsUtil.getFileExtension(fileName);
+
+        return hash + "." + extension;
+    }
 }
@@ -0,0 +1,115 @@
+package com.ohdeerit.blog.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TokenizerUtil {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    /**
+     * Folds Polish diacritics to their ASCII base letter. Expects a lower-case character.
+     */
+    public static char foldDiacritic(final char c) {
+        return switch (c) {
+            case 'ą' -> 'a';
+            case 'ć' -> 'c';
+            case 'ę' -> 'e';
+            case 'ł' -> 'l';
+            case 'ń' -> 'n';
+            case 'ó' -> 'o';
+            case 'ś' -> 's';
+            case 'ź', 'ż' -> 'z';
+            default -> c;
+        };
+    }
+
+    /**
+     * Splits text into lower-case, diacritic-folded tokens of letters and digits, skipping HTML tags.
+     * Tokens shorter than two characters are dropped.
+     */
+    public static List<String> tokenize(final String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+
+        final List<String> tokens = new ArrayList<>();
+        final StringBuilder token = new StringBuilder();
+        boolean insideTag = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+
+            if (insideTag) {
+                insideTag = c != '>';
+                continue;
+            }
+
+            if (c == '<' && isTagStart(text, i + 1)) {
+                addToken(tokens, token);
+                insideTag = true;
+                continue;
+            }
+
+            final char folded = foldDiacritic(Character.toLowerCase(c));
+            if (Character.isLetterOrDigit(folded)) {
+                token.append(folded);
+            } else {
+                addToken(tokens, token);
+            }
+        }
+
+        addToken(tokens, token);
+
+        return tokens;
+    }
+
+    /**
+     * Lower-cases and folds text the same way as {@link #tokenize}, keeping word order. Runs of anything that
+     * is not a letter or digit collapse into a single space, so the result never starts or ends with one.
+     */
+    public static String normalize(final String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        final StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char folded = foldDiacritic(Character.toLowerCase(text.charAt(i)));
+
+            if (!Character.isLetterOrDigit(folded)) {
+                pendingSpace = !normalized.isEmpty();
+                continue;
+            }
+
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+
+            normalized.append(folded);
+        }
+
+        return normalized.toString();
+    }
+
+    private static boolean isTagStart(final String text, final int index) {
+        if (index >= text.length()) {
+            return false;
+        }
+
+        final char c = text.charAt(index);
+
+        return Character.isLetter(c) || c == '/' || c == '!';
+    }
+
+    private static void addToken(final List<String> tokens, final StringBuilder token) {
+        if (token.length() >= MIN_TOKEN_LENGTH) {
+            tokens.add(token.toString());
+        }
+
+        token.setLength(0);
+    }
+}
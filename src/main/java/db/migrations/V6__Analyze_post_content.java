@@ -0,0 +1,315 @@
+package db.migrations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the content analysis columns of existing posts, reading them in batches ordered by id. The analysis is
+ * a frozen copy of {@code ContentAnalyzerUtil} as of this migration, so what an applied migration wrote never
+ * depends on later changes to the application code.
+ */
+public class V6__Analyze_post_content extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 200;
+
+    private static final int WORDS_PER_MINUTE = 200;
+    private static final int EXCERPT_LENGTH = 300;
+    private static final int MAX_HEADING_LENGTH = 255;
+
+    private static final char ELLIPSIS = '…';
+    private static final int MAX_REFERENCE_LENGTH = 10;
+
+    private static final String[] REFERENCE_NAMES = {"amp", "lt", "gt", "quot", "apos", "nbsp", "ndash", "mdash",
+            "hellip"};
+    private static final char[] REFERENCE_VALUES = {'&', '<', '>', '"', '\'', ' ', '–', '—', ELLIPSIS};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private record Heading(int level, String text) {
+    }
+
+    private record Analysis(int wordCount, int readingTime, int imageCount, List<Heading> outline,
+                            String excerpt) {
+    }
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        byte[] lastId = new byte[16];
+        int analyzed;
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, content FROM posts WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE posts SET word_count = ?, reading_time = ?, image_count = ?, excerpt = ?, outline = ? " +
+                             "WHERE id = ?")) {
+            do {
+                analyzed = 0;
+                select.setBytes(1, lastId);
+
+                try (ResultSet posts = select.executeQuery()) {
+                    while (posts.next()) {
+                        lastId = posts.getBytes(1);
+                        final Analysis analysis = new Scanner(posts.getString(2)).scan();
+
+                        update.setInt(1, analysis.wordCount());
+                        update.setInt(2, analysis.readingTime());
+                        update.setInt(3, analysis.imageCount());
+                        update.setString(4, analysis.excerpt());
+                        update.setString(5, toJson(analysis));
+                        update.setBytes(6, lastId);
+                        update.addBatch();
+                        analyzed++;
+                    }
+                }
+
+                update.executeBatch();
+            } while (analyzed == BATCH_SIZE);
+        }
+    }
+
+    private String toJson(final Analysis analysis) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(analysis.outline());
+    }
+
+    private static final class Scanner {
+
+        private final String content;
+        private final StringBuilder excerpt = new StringBuilder(EXCERPT_LENGTH + 1);
+        private final List<Heading> outline = new ArrayList<>();
+
+        private int wordCount;
+        private int imageCount;
+        private boolean insideWord;
+        private boolean pendingSpace;
+
+        private StringBuilder heading;
+        private int headingLevel;
+
+        private Scanner(final String content) {
+            this.content = content == null ? "" : content;
+        }
+
+        private Analysis scan() {
+            final int length = content.length();
+            int i = 0;
+
+            while (i < length) {
+                final char c = content.charAt(i);
+
+                if (c == '<' && isTagStart(i + 1)) {
+                    i = skipTag(i);
+                } else if (c == '&') {
+                    i = decodeReference(i);
+                } else {
+                    text(c);
+                    i++;
+                }
+            }
+
+            // At least one minute, as posts.reading_time must be positive
+            final int readingTime = Math.max(1, (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE);
+
+            return new Analysis(wordCount, readingTime, imageCount, List.copyOf(outline), excerpt());
+        }
+
+        /**
+         * Handles the tag starting at {@code start} and returns the index after it, or after the end of the
+         * element for script and style.
+         */
+        private int skipTag(final int start) {
+            boundary();
+
+            if (content.startsWith("<!--", start)) {
+                return indexAfter("-->", start + 4);
+            }
+
+            final int end = content.indexOf('>', start);
+            if (end < 0) {
+                return content.length();
+            }
+
+            final boolean closing = content.charAt(start + 1) == '/';
+            final int nameStart = closing ? start + 2 : start + 1;
+            int nameEnd = nameStart;
+            while (nameEnd < end && Character.isLetterOrDigit(content.charAt(nameEnd))) {
+                nameEnd++;
+            }
+
+            final int nameLength = nameEnd - nameStart;
+
+            if (closing) {
+                if (heading != null && headingLevel(nameStart, nameLength) == headingLevel) {
+                    endHeading();
+                }
+            } else if (isName("img", nameStart, nameLength)) {
+                imageCount++;
+            } else if (isName("script", nameStart, nameLength) || isName("style", nameStart, nameLength)) {
+                return skipElementBody(end + 1, nameStart, nameLength);
+            } else {
+                final int level = headingLevel(nameStart, nameLength);
+                if (level > 0) {
+                    heading = new StringBuilder();
+                    headingLevel = level;
+                }
+            }
+
+            return end + 1;
+        }
+
+        private int skipElementBody(final int from, final int nameStart, final int nameLength) {
+            for (int i = content.indexOf("</", from); i >= 0; i = content.indexOf("</", i + 2)) {
+                if (content.regionMatches(true, i + 2, content, nameStart, nameLength)) {
+                    final int end = content.indexOf('>', i);
+
+                    return end < 0 ? content.length() : end + 1;
+                }
+            }
+
+            return content.length();
+        }
+
+        private int decodeReference(final int start) {
+            final int limit = Math.min(content.length(), start + MAX_REFERENCE_LENGTH);
+            int end = start + 1;
+            while (end < limit && content.charAt(end) != ';') {
+                end++;
+            }
+
+            final int decoded = end < limit ? decode(start + 1, end) : -1;
+            if (decoded < 0) {
+                text('&');
+                return start + 1;
+            }
+
+            if (Character.isSupplementaryCodePoint(decoded)) {
+                text(Character.highSurrogate(decoded));
+                text(Character.lowSurrogate(decoded));
+            } else {
+                text((char) decoded);
+            }
+
+            return end + 1;
+        }
+
+        private int decode(final int start, final int end) {
+            if (end - start < 2) {
+                return -1;
+            }
+
+            if (content.charAt(start) == '#') {
+                final boolean hex = content.charAt(start + 1) == 'x' || content.charAt(start + 1) == 'X';
+                try {
+                    final int codePoint = Integer.parseInt(content, hex ? start + 2 : start + 1, end, hex ? 16 : 10);
+
+                    return Character.isValidCodePoint(codePoint) ? codePoint : -1;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+
+            for (int i = 0; i < REFERENCE_NAMES.length; i++) {
+                if (isName(REFERENCE_NAMES[i], start, end - start)) {
+                    return REFERENCE_VALUES[i];
+                }
+            }
+
+            return -1;
+        }
+
+        private void text(final char c) {
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                boundary();
+                return;
+            }
+
+            if (!insideWord) {
+                wordCount++;
+                insideWord = true;
+            }
+
+            if (excerpt.length() <= EXCERPT_LENGTH) {
+                if (pendingSpace && !excerpt.isEmpty()) {
+                    excerpt.append(' ');
+                }
+                excerpt.append(c);
+            }
+
+            if (heading != null && heading.length() < MAX_HEADING_LENGTH) {
+                if (pendingSpace && !heading.isEmpty()) {
+                    heading.append(' ');
+                }
+                heading.append(c);
+            }
+
+            pendingSpace = false;
+        }
+
+        private void boundary() {
+            insideWord = false;
+            pendingSpace = true;
+        }
+
+        private void endHeading() {
+            if (!heading.isEmpty()) {
+                outline.add(new Heading(headingLevel, heading.toString()));
+            }
+
+            heading = null;
+            headingLevel = 0;
+        }
+
+        /**
+         * Cuts the excerpt at the last word boundary when the text is longer than {@link #EXCERPT_LENGTH}.
+         */
+        private String excerpt() {
+            if (excerpt.length() <= EXCERPT_LENGTH) {
+                return excerpt.toString();
+            }
+
+            final int lastSpace = excerpt.lastIndexOf(" ", EXCERPT_LENGTH);
+            final int cut = lastSpace > 0 ? lastSpace : EXCERPT_LENGTH - 1;
+
+            return excerpt.substring(0, cut) + ELLIPSIS;
+        }
+
+        private boolean isTagStart(final int index) {
+            if (index >= content.length()) {
+                return false;
+            }
+
+            final char c = content.charAt(index);
+
+            return Character.isLetter(c) || c == '/' || c == '!';
+        }
+
+        private boolean isName(final String name, final int start, final int length) {
+            return length == name.length() && content.regionMatches(true, start, name, 0, length);
+        }
+
+        private int headingLevel(final int start, final int length) {
+            if (length != 2 || Character.toLowerCase(content.charAt(start)) != 'h') {
+                return 0;
+            }
+
+            final char level = content.charAt(start + 1);
+
+            return level >= '1' && level <= '6' ? level - '0' : 0;
+        }
+
+        private int indexAfter(final String token, final int from) {
+            final int index = content.indexOf(token, from);
+
+            return index < 0 ? content.length() : index + token.length();
+        }
+    }
+}
+
@@ -0,0 +1,116 @@
+package db.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.PreparedStatement;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.HexFormat;
+
+/**
+ * Fills the thumbnail file names of existing posts and media files, reading them in batches ordered by id. The
+ * thumbnail sizes and the naming of {@code ThumbnailUtil} are copied as of this migration, so what an applied
+ * migration wrote never depends on later changes to the thumbnail constants.
+ */
+public class V8__Fill_thumbnail_names extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final Thumbnail POST_THUMBNAIL = new Thumbnail(220, 160, "resize", 100);
+    private static final Thumbnail MEDIA_THUMBNAIL_165 = new Thumbnail(165, 100, "adaptiveResize", 100);
+    private static final Thumbnail MEDIA_THUMBNAIL_600 = new Thumbnail(600, 400, "adaptiveResize", 100);
+
+    private record Thumbnail(int width, int height, String method, int percent) {
+    }
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final Connection connection = context.getConnection();
+
+        fillPostThumbnails(connection);
+        fillMediaFileThumbnails(connection);
+    }
+
+    private static void fillPostThumbnails(final Connection connection) throws Exception {
+        byte[] lastId = new byte[16];
+        int filled;
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, thumbnail FROM posts WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE posts SET thumbnail_name = ? WHERE id = ?")) {
+            do {
+                filled = 0;
+                select.setBytes(1, lastId);
+
+                try (ResultSet posts = select.executeQuery()) {
+                    while (posts.next()) {
+                        lastId = posts.getBytes(1);
+
+                        update.setString(1, thumbnailFileName(posts.getString(2), POST_THUMBNAIL));
+                        update.setBytes(2, lastId);
+                        update.addBatch();
+                        filled++;
+                    }
+                }
+
+                update.executeBatch();
+            } while (filled == BATCH_SIZE);
+        }
+    }
+
+    private static void fillMediaFileThumbnails(final Connection connection) throws Exception {
+        int lastId = 0;
+        int filled;
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id, file FROM media_file WHERE id > ? ORDER BY id LIMIT " + BATCH_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE media_file SET thumbnail_165 = ?, thumbnail_600 = ? WHERE id = ?")) {
+            do {
+                filled = 0;
+                select.setInt(1, lastId);
+
+                try (ResultSet files = select.executeQuery()) {
+                    while (files.next()) {
+                        lastId = files.getInt(1);
+                        final String file = files.getString(2);
+
+                        update.setString(1, thumbnailFileName(file, MEDIA_THUMBNAIL_165));
+                        update.setString(2, thumbnailFileName(file, MEDIA_THUMBNAIL_600));
+                        update.setInt(3, lastId);
+                        update.addBatch();
+                        filled++;
+                    }
+                }
+
+                update.executeBatch();
+            } while (filled == BATCH_SIZE);
+        }
+    }
+
+    /**
+     * The MD5 of the file name and the thumbnail parameters, with the lower-cased extension of the file.
+     */
+    private static String thumbnailFileName(final String fileName, final Thumbnail thumbnail)
+            throws NoSuchAlgorithmException {
+        if (fileName == null || fileName.isEmpty()) {
+            return fileName;
+        }
+
+        final int lastDotIndex = fileName.lastIndexOf('.');
+        if (lastDotIndex == -1 || lastDotIndex == fileName.length() - 1) {
+            throw new IllegalArgumentException("File must have an extension: " + fileName);
+        }
+
+        final String input = fileName + thumbnail.width() + thumbnail.height() + thumbnail.method()
+                + thumbnail.percent();
+        final byte[] hash = MessageDigest.getInstance("MD5").digest(input.getBytes(StandardCharsets.UTF_8));
+
+        return HexFormat.of().formatHex(hash) + "." + fileName.substring(lastDotIndex + 1).toLowerCase();
+    }
+}
@@ -0,0 +1,4 @@
+ALTER TABLE posts ADD COLUMN word_count INT NOT NULL DEFAULT 0;
+ALTER TABLE posts ADD COLUMN image_count INT NOT NULL DEFAULT 0;
+ALTER TABLE posts ADD COLUMN excerpt VARCHAR(1000) NULL;
+ALTER TABLE posts ADD COLUMN outline JSON NULL;
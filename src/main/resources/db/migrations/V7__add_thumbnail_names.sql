@@ -0,0 +1,3 @@
+ALTER TABLE posts ADD COLUMN thumbnail_name VARCHAR(255) NULL;
+ALTER TABLE media_file ADD COLUMN thumbnail_165 VARCHAR(255) NULL;
+ALTER TABLE media_file ADD COLUMN thumbnail_600 VARCHAR(255) NULL;
@@ -0,0 +1,142 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.MediaType;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import com.ohdeerit.blog.models.entities.*;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostFixtures postFixtures;
+
+    private PostEntity tatra;
+    private PostEntity draft;
+
+    @BeforeEach
+    void setUp() {
+        final PostFixtures.Trips trips = postFixtures.saveTrips();
+        tatra = trips.tatra();
+        draft = trips.draft();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postFixtures.deleteAll();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Export streams every post, drafts included, with its tags and category as NDJSON")
+    void testExport() throws Exception {
+        final Map<String, JsonNode> records = export("post");
+        assertEquals(3, records.size());
+
+        final JsonNode exportedTatra = records.get(tatra.getId().toString());
+        assertEquals("post", exportedTatra.get("type").asText());
+        assertEquals(tatra.getContent(), exportedTatra.get("content").asText());
+        assertEquals("Podróże", exportedTatra.get("category").get("name").asText());
+        assertEquals("góry", exportedTatra.get("tags").get(0).get("name").asText());
+        assertEquals(PostStatus.DRAFT.name(), records.get(draft.getId().toString()).get("status").asText());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Export writes each media with its files in position order, and media without files")
+    void testExportMedia() throws Exception {
+        final MediaEntity gallery = postFixtures.saveMedia("Tatry jesienią", "tatry-jesienia");
+        postFixtures.saveMediaFile(gallery, "grzbiet.jpg", 1);
+        postFixtures.saveMediaFile(gallery, "dolina.jpg", 0);
+        final MediaEntity empty = postFixtures.saveMedia("Pusta galeria", "pusta-galeria");
+
+        final Map<String, JsonNode> records = export("media");
+        assertEquals(2, records.size());
+
+        final JsonNode exportedGallery = records.get(gallery.getId().toString());
+        assertEquals("Tatry jesienią", exportedGallery.get("shortDescription").asText());
+        assertEquals("tatry-jesienia", exportedGallery.get("folder").asText());
+        assertEquals(1, exportedGallery.get("mediaType").asInt());
+        assertEquals(2, exportedGallery.get("files").size());
+        assertEquals("dolina.jpg", exportedGallery.get("files").get(0).get("file").asText());
+        assertEquals("grzbiet.jpg", exportedGallery.get("files").get(1).get("file").asText());
+        assertEquals(1, exportedGallery.get("files").get(1).get("position").asInt());
+
+        assertEquals(0, records.get(empty.getId().toString()).get("files").size());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Export runs with its own async timeout instead of the container default")
+    void testExportTimeout() throws Exception {
+        final MvcResult asyncResult = mockMvc.perform(get("/api/v1/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofHours(1).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Export requires authentication")
+    void testExportUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    /**
+     * Runs the export and keys the records of one type by id.
+     */
+    private Map<String, JsonNode> export(final String type) throws Exception {
+        final MvcResult asyncResult = mockMvc.perform(get("/api/v1/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final String body = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        return body.lines()
+                .map(this::readJson)
+                .filter(record -> type.equals(record.get("type").asText()))
+                .collect(Collectors.toMap(record -> record.get("id").asText(), record -> record));
+    }
+
+    private JsonNode readJson(final String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import com.ohdeerit.blog.services.interfaces.PostIndexingService;
+import com.ohdeerit.blog.services.interfaces.ImportService;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import com.ohdeerit.blog.repositories.PostRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ohdeerit.blog.models.dtos.ImportProgressDto;
+import org.springframework.http.MediaType;
+import com.ohdeerit.blog.models.entities.*;
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PostIndexingService postIndexingService;
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFixtures postFixtures;
+
+    private UserEntity author;
+    private PostEntity tatra;
+
+    @BeforeEach
+    void setUp() {
+        final PostFixtures.Trips trips = postFixtures.saveTrips();
+        author = trips.author();
+        tatra = trips.tatra();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postFixtures.deleteAll();
+        // Imports reindex every post, so drop the imported ones from the shared indexes again
+        postIndexingService.reindexAll();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Import upserts posts by slug with their categories and tags, reporting progress per batch")
+    void testImport() throws Exception {
+        final String records = String.join("\n",
+                "{\"type\":\"post\",\"title\":\"Wędrówka w Tatry jesienią\",\"slug\":\"" + tatra.getSlug()
+                        + "\",\"content\":\"Nowa treść\",\"status\":\"PUBLISHED\","
+                        + "\"category\":{\"name\":\"Podróże\"},\"tags\":[{\"name\":\"góry\"}]}",
+                "{\"type\":\"media\",\"id\":1,\"files\":[]}",
+                "{\"type\":\"post\",\"title\":\"Szlaki Beskidów\",\"slug\":\"szlaki-beskidow\","
+                        + "\"content\":\"Beskidy\",\"status\":\"PUBLISHED\",\"authorId\":\"" + UUID.randomUUID()
+                        + "\",\"category\":{\"name\":\"Góry\"},\"tags\":[{\"name\":\"szlaki\"}],"
+                        + "\"createdAt\":\"2020-05-01T10:00:00\",\"updatedAt\":\"2020-05-02T10:00:00\"}");
+
+        final List<JsonNode> progress = importRecords(records);
+
+        assertEquals(2, progress.size());
+        assertFalse(progress.get(0).get("done").asBoolean());
+
+        final JsonNode summary = progress.get(1);
+        assertTrue(summary.get("done").asBoolean());
+        assertEquals(3, summary.get("lines").asLong());
+        assertEquals(1, summary.get("created").asLong());
+        assertEquals(1, summary.get("updated").asLong());
+        assertEquals(1, summary.get("skipped").asLong());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            final PostEntity imported = postRepository.findBySlug("szlaki-beskidow").orElseThrow();
+            assertEquals("Góry", imported.getCategory().getName());
+            assertEquals(author.getId(), imported.getAuthor().getId());
+            assertEquals(2020, imported.getCreatedAt().getYear());
+            assertEquals(Set.of("szlaki"),
+                    imported.getTags().stream().map(TagEntity::getName).collect(Collectors.toSet()));
+
+            final PostEntity updated = postRepository.findById(tatra.getId()).orElseThrow();
+            assertEquals("Wędrówka w Tatry jesienią", updated.getTitle());
+        });
+
+        mockMvc.perform(get("/api/v1/posts/search").param("q", "beskidy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Import reserves unique slugs for posts without one, within a batch and against existing posts")
+    void testImportWithoutSlugs() throws Exception {
+        final String records = String.join("\n",
+                importRecord("Pieniny latem"),
+                importRecord("Pieniny, latem!"),
+                importRecord("Pieniny latem?"),
+                importRecord(tatra.getTitle() + "!"));
+
+        final List<JsonNode> progress = importRecords(records);
+
+        final JsonNode summary = progress.getLast();
+        assertEquals(4, summary.get("created").asLong());
+        assertFalse(summary.has("error"));
+
+        assertEquals("Pieniny latem", postRepository.findBySlug("pieniny-latem").orElseThrow().getTitle());
+        assertEquals("Pieniny, latem!", postRepository.findBySlug("pieniny-latem-2").orElseThrow().getTitle());
+        assertEquals("Pieniny latem?", postRepository.findBySlug("pieniny-latem-3").orElseThrow().getTitle());
+        assertEquals(tatra.getTitle() + "!",
+                postRepository.findBySlug(tatra.getSlug() + "-2").orElseThrow().getTitle());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Import keeps the last of several posts sharing a slug and counts the others as skipped")
+    void testImportDuplicateSlugs() throws Exception {
+        final String records = String.join("\n",
+                importRecord("Szlaki Beskidów", "szlaki-beskidow"),
+                importRecord("Szlaki Beskidów jesienią", "szlaki-beskidow"),
+                importRecord("Szlaki Bieszczad", "szlaki-bieszczad"));
+
+        final JsonNode summary = importRecords(records).getLast();
+        assertEquals(2, summary.get("created").asLong());
+        assertEquals(1, summary.get("skipped").asLong());
+        assertFalse(summary.has("error"));
+
+        assertEquals("Szlaki Beskidów jesienią", postRepository.findBySlug("szlaki-beskidow").orElseThrow().getTitle());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Import rejects a batch with a slug that breaks the slug format, without taking its slugs")
+    void testImportInvalidSlug() throws Exception {
+        final String records = String.join("\n",
+                importRecord("Szlaki Beskidów", "szlaki-beskidow"),
+                importRecord("Szlaki Bieszczad", "Szlaki Bieszczad!"));
+
+        final JsonNode summary = importRecords(records).getLast();
+        assertEquals(0, summary.get("created").asLong());
+        assertTrue(summary.get("error").asText().contains("Szlaki Bieszczad!"));
+        assertTrue(postRepository.findBySlug("szlaki-beskidow").isEmpty());
+
+        assertEquals(1, importRecords(importRecord("Szlaki Beskidów")).getLast().get("created").asLong());
+        assertEquals("Szlaki Beskidów", postRepository.findBySlug("szlaki-beskidow").orElseThrow().getTitle());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Import runs with its own long async timeout instead of the container default")
+    void testImportTimeout() throws Exception {
+        final MvcResult asyncResult = mockMvc.perform(post("/api/v1/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(importRecord("Gorce zimą"))
+                        .requestAttr("userId", author.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofHours(12).toMillis(), asyncResult.getRequest().getAsyncContext().getTimeout());
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Import interrupted by a timed out or cancelled request stops before the next batch")
+    void testImportCancelled() {
+        final String records = String.join("\n",
+                importRecord("Gorce latem"),
+                importRecord("Gorce jesienią"),
+                importRecord("Beskid Niski latem"),
+                importRecord("Beskid Niski jesienią"));
+        final List<ImportProgressDto> progress = new ArrayList<>();
+
+        final ImportProgressDto summary = importService.importRecords(
+                new ByteArrayInputStream(records.getBytes(StandardCharsets.UTF_8)), author.getId(), report -> {
+                    progress.add(report);
+                    if (!report.done()) {
+                        // What the container does to the request task on a timeout or a disconnect
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertFalse(Thread.interrupted());
+        assertEquals(2, progress.size());
+        assertEquals(2, summary.created());
+        assertTrue(summary.error().contains("cancelled"));
+        assertTrue(postRepository.findBySlug("gorce-latem").isPresent());
+        assertTrue(postRepository.findBySlug("beskid-niski-latem").isEmpty());
+    }
+
+    private List<JsonNode> importRecords(final String records) throws Exception {
+        final MvcResult asyncResult = mockMvc.perform(post("/api/v1/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(records)
+                        .requestAttr("userId", author.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8)
+                .lines().map(this::readJson).toList();
+    }
+
+    private static String importRecord(final String title, final String slug) {
+        return "{\"type\":\"post\",\"title\":\"" + title + "\",\"slug\":\"" + slug + "\",\"content\":\"Treść\","
+                + "\"category\":{\"name\":\"Podróże\"}}";
+    }
+
+    private static String importRecord(final String title) {
+        return "{\"type\":\"post\",\"title\":\"" + title + "\",\"content\":\"Treść\","
+                + "\"category\":{\"name\":\"Podróże\"}}";
+    }
+
+    private JsonNode readJson(final String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
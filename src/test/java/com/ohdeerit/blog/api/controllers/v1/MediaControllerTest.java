@@ -0,0 +1,160 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import com.ohdeerit.blog.services.interfaces.MediaJobService;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import com.ohdeerit.blog.repositories.MediaFileRepository;
+import org.springframework.mock.web.MockMultipartFile;
+import com.ohdeerit.blog.repositories.MediaRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.FileSystemUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.MediaType;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MediaControllerTest {
+
+    private static final long JOB_TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MediaRepository mediaRepository;
+
+    @Autowired
+    private MediaFileRepository mediaFileRepository;
+
+    @Autowired
+    private MediaJobService mediaJobService;
+
+    @AfterEach
+    void tearDown() {
+        mediaRepository.findAll().forEach(media ->
+                FileSystemUtils.deleteRecursively(Paths.get("test-media", media.getFolder()).toFile()));
+
+        mediaFileRepository.deleteAll();
+        mediaRepository.deleteAll();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Async upload answers 202 with a job that creates the media in the background")
+    void testCreateMediaAsync() throws Exception {
+        final String response = mockMvc.perform(multipart("/api/v1/media")
+                        .file(image("first.png"))
+                        .file(image("second.png"))
+                        .param("media.shortDescription", "Gallery")
+                        .param("media.status", "1")
+                        .param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.totalFiles").value(2))
+                .andReturn().getResponse().getContentAsString();
+
+        final String jobId = objectMapper.readTree(response).get("id").asText();
+        final JsonNode job = awaitJob(jobId);
+
+        assertEquals("COMPLETED", job.get("status").asText());
+        assertEquals(2, job.get("processedFiles").asInt());
+        assertEquals(2, job.get("media").get("mediaFiles").size());
+        assertEquals("first.png", job.get("media").get("mediaFiles").get(0).get("file").asText());
+        assertEquals(1, mediaRepository.count());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Async upload rejects invalid files before queueing a job")
+    void testCreateMediaAsyncInvalidFile() throws Exception {
+        mockMvc.perform(multipart("/api/v1/media")
+                        .file(new MockMultipartFile("media.files", "notes.txt", MediaType.TEXT_PLAIN_VALUE,
+                                "notes".getBytes()))
+                        .param("media.shortDescription", "Gallery")
+                        .param("media.status", "1")
+                        .param("async", "true"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Unknown media job is not found")
+    void testGetUnknownMediaJob() throws Exception {
+        mockMvc.perform(get("/api/v1/media/jobs/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Media jobs are not public")
+    void testGetMediaJobUnauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/media/jobs/" + UUID.randomUUID()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Staged files of a job that no longer exists are swept")
+    void testSweepOrphanedStaging() throws Exception {
+        final Path jobDirectory = Files.createDirectories(
+                Paths.get("test-media", "staging", UUID.randomUUID().toString()));
+        Files.write(jobDirectory.resolve("0"), new byte[1024]);
+
+        ReflectionTestUtils.invokeMethod(mediaJobService, "sweepStaging");
+
+        assertFalse(Files.exists(jobDirectory));
+    }
+
+    private JsonNode awaitJob(final String jobId) throws Exception {
+        final long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+
+        while (true) {
+            final String response = mockMvc.perform(get("/api/v1/media/jobs/" + jobId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                    .andReturn().getResponse().getContentAsString();
+
+            final JsonNode job = objectMapper.readTree(response);
+            final String status = job.get("status").asText();
+
+            if (!status.equals("QUEUED") && !status.equals("PROCESSING")) {
+                return job;
+            }
+
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Media job did not finish: " + response);
+            }
+
+            Thread.sleep(50);
+        }
+    }
+
+    private static MockMultipartFile image(final String fileName) throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+
+        return new MockMultipartFile("media.files", fileName, MediaType.IMAGE_PNG_VALUE, outputStream.toByteArray());
+    }
+}
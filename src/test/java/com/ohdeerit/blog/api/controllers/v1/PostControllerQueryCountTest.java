@@ -0,0 +1,265 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ohdeerit.blog.services.mappers.PostServiceMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import com.ohdeerit.blog.services.interfaces.ResponseCacheService;
+import com.ohdeerit.blog.services.interfaces.PostIndexingService;
+import com.ohdeerit.blog.services.interfaces.PostCacheService;
+import org.springframework.data.domain.PageRequest;
+import com.ohdeerit.blog.repositories.PostRepository;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import com.ohdeerit.blog.config.ThumbnailConstants;
+import com.ohdeerit.blog.utils.ThumbnailUtil;
+import com.ohdeerit.blog.models.entities.*;
+import org.springframework.http.HttpHeaders;
+import org.hibernate.stat.Statistics;
+import org.springframework.data.domain.Sort;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.*;
+
+import java.util.zip.GZIPInputStream;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostControllerQueryCountTest {
+
+    private static final int POST_COUNT = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PostServiceMapper postMapper;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFixtures postFixtures;
+
+    @Autowired
+    private PostCacheService postCacheService;
+
+    @Autowired
+    private PostIndexingService postIndexingService;
+
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
+    private Statistics statistics;
+    private CategoryEntity category;
+    private TagEntity tag;
+    private final List<PostEntity> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Fixtures are saved through repositories, which publish no change events
+        responseCacheService.invalidateAll();
+
+        final UserEntity author = postFixtures.saveAuthor();
+        category = postFixtures.saveCategory("Travel");
+        tag = postFixtures.saveTag("mountains");
+        final TagEntity otherTag = postFixtures.saveTag("lakes");
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            final MediaEntity media = postFixtures.saveMedia("Gallery " + i, "gallery-" + i);
+
+            for (int position = 0; position < 3; position++) {
+                postFixtures.saveMediaFile(media, "photo-" + position + ".jpg", position);
+            }
+
+            final PostEntity post = postFixtures.newPost(author, category, "Trip report number " + i,
+                    "Lorem ipsum dolor sit amet ".repeat(100), PostStatus.PUBLISHED, tag, otherTag);
+            post.setShortDescription("Short description " + i);
+            post.setMedia(media);
+
+            posts.add(postRepository.save(post));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        postFixtures.deleteAll();
+        posts.clear();
+        postIndexingService.reindexAll();
+    }
+
+    @Test
+    @DisplayName("Published post list resolves in two statements")
+    void testGetPostsStatementCount() throws Exception {
+        assertStatementCount(2, "/api/v1/posts");
+    }
+
+    @Test
+    @DisplayName("Post list filtered by category is served from the in-memory index")
+    void testGetPostsByCategoryStatementCount() throws Exception {
+        postIndexingService.reindexAll();
+
+        assertStatementCount(0, "/api/v1/posts?categoryId=" + category.getId());
+    }
+
+    @Test
+    @DisplayName("Post list filtered by tag is served from the in-memory index")
+    void testGetPostsByTagStatementCount() throws Exception {
+        postIndexingService.reindexAll();
+
+        assertStatementCount(0, "/api/v1/posts?tagId=" + tag.getId());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Post list including drafts resolves in two statements")
+    void testGetAllPostsStatementCount() throws Exception {
+        assertStatementCount(2, "/api/v1/posts/all");
+    }
+
+    @Test
+    @DisplayName("Post by id resolves in four statements and is then served from cache")
+    void testGetPostStatementCount() throws Exception {
+        assertStatementCount(4, "/api/v1/posts/" + posts.getFirst().getId());
+        assertStatementCount(0, "/api/v1/posts/" + posts.getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("Post by slug resolves in five statements and is then served from cache")
+    void testGetPostBySlugStatementCount() throws Exception {
+        assertStatementCount(5, "/api/v1/posts/slug/" + posts.getFirst().getSlug());
+        assertStatementCount(0, "/api/v1/posts/slug/" + posts.getFirst().getSlug());
+    }
+
+    @Test
+    @DisplayName("Post and media file thumbnail names are read from their stored columns")
+    void testGetPostThumbnailNames() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/" + posts.getFirst().getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thumbnail").value(ThumbnailUtil.generateThumbnailFileName(
+                        "thumbnail.jpg", ThumbnailConstants.POST_THUMBNAIL)))
+                .andExpect(jsonPath("$.media.mediaFiles[0].thumbnail165").value(
+                        ThumbnailUtil.generateThumbnailFileName("photo-0.jpg",
+                                ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS.get(0))))
+                .andExpect(jsonPath("$.media.mediaFiles[0].thumbnail600").value(
+                        ThumbnailUtil.generateThumbnailFileName("photo-0.jpg",
+                                ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS.get(1))));
+    }
+
+    @Test
+    @DisplayName("Matching If-None-Match on an uncached post only reads its update timestamp")
+    void testGetPostNotModifiedStatementCount() throws Exception {
+        final PostEntity post = posts.getFirst();
+        final String url = "/api/v1/posts/" + post.getId();
+
+        final String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        postCacheService.evict(post.getId(), post.getSlug());
+        statistics.clear();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Matching If-None-Match on a post list skips the database")
+    void testGetPostsNotModifiedStatementCount() throws Exception {
+        final String eTag = mockMvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Repeated post list is written from cached bytes, gzipped when accepted")
+    void testGetPostsResponseCache() throws Exception {
+        final byte[] body = mockMvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(body));
+
+        final byte[] gzipBody = mockMvc.perform(get("/api/v1/posts").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            assertArrayEquals(body, gzipStream.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Category and tag post counts are aggregated in a single statement")
+    void testGetCategoriesAndTagsStatementCount() throws Exception {
+        assertStatementCount(1, "/api/v1/categories");
+        assertStatementCount(1, "/api/v1/tags");
+
+        mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(jsonPath("$[?(@.name == 'Travel')].postCount").value(POST_COUNT));
+        mockMvc.perform(get("/api/v1/tags"))
+                .andExpect(jsonPath("$[?(@.name == 'mountains')].postCount").value(POST_COUNT));
+    }
+
+    @Test
+    @DisplayName("Full post page resolves in three statements regardless of page size")
+    void testFindAllByStatusStatementCount() {
+        statistics.clear();
+
+        final int mapped = transactionTemplate.execute(status -> postRepository.findAllByStatus(
+                        PostStatus.PUBLISHED,
+                        PageRequest.of(0, POST_COUNT, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .map(postMapper::map)
+                .getNumberOfElements());
+
+        assertEquals(POST_COUNT, mapped);
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    private void assertStatementCount(final long expected, final String url) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+
+        assertEquals(expected, statistics.getPrepareStatementCount(), "Unexpected statement count for " + url);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import com.ohdeerit.blog.services.interfaces.PostIndexingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ohdeerit.blog.repositories.PostRepository;
+import com.ohdeerit.blog.models.entities.PostEntity;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.http.MediaType;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostControllerTest {
+
+    private static final String THUMBNAIL_FILE_NAME = "dolina.png";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostIndexingService postIndexingService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFixtures postFixtures;
+
+    private PostFixtures.Trips trips;
+
+    @BeforeEach
+    void setUp() {
+        trips = postFixtures.saveTrips();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (PostEntity post : postRepository.findAll()) {
+            Files.deleteIfExists(Paths.get("test-media", "thumbnail", post.getThumbnailName()));
+        }
+        Files.deleteIfExists(Paths.get("test-media", THUMBNAIL_FILE_NAME));
+
+        postFixtures.deleteAll();
+        postIndexingService.reindexAll();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Posts with the same title are both created, the later one under a suffixed slug")
+    void testCreatePostsWithSameTitle() throws Exception {
+        final JsonNode first = createPost("Dolina Pięciu Stawów");
+        final JsonNode second = createPost("Dolina Pięciu Stawów");
+
+        assertEquals("dolina-pieciu-stawow", first.get("slug").asText());
+        assertEquals("dolina-pieciu-stawow-2", second.get("slug").asText());
+        assertEquals(first.get("title").asText(), second.get("title").asText());
+    }
+
+    private JsonNode createPost(final String title) throws Exception {
+        final String response = mockMvc.perform(multipart("/api/v1/posts")
+                        .file(thumbnail())
+                        .param("post.title", title)
+                        .param("post.shortDescription", "Krótki opis wpisu")
+                        .param("post.content", "<p>Szlak przez Dolinę Pięciu Stawów.</p>")
+                        .param("post.categoryId", trips.category().getId().toString())
+                        .param("post.status", PostStatus.PUBLISHED.name())
+                        .requestAttr("userId", trips.author().getId()))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(response);
+    }
+
+    private static MockMultipartFile thumbnail() throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(440, 320, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+
+        return new MockMultipartFile("post.thumbnailFile", THUMBNAIL_FILE_NAME, MediaType.IMAGE_PNG_VALUE,
+                outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,117 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import com.ohdeerit.blog.models.enums.PostStatus;
+import org.springframework.stereotype.Component;
+import com.ohdeerit.blog.models.entities.*;
+import com.ohdeerit.blog.repositories.*;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Saves the author, categories, tags, posts and media the controller tests share, straight through the
+ * repositories. Repository saves publish no change events, so tests reindex and invalidate caches themselves.
+ */
+@Component
+@RequiredArgsConstructor
+class PostFixtures {
+
+    /**
+     * Two published posts with one tag each and a draft, all in one category.
+     */
+    record Trips(UserEntity author, CategoryEntity category, TagEntity mountains, TagEntity lakes,
+                 PostEntity tatra, PostEntity masuria, PostEntity draft) {
+    }
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final PostRepository postRepository;
+    private final MediaRepository mediaRepository;
+    private final MediaFileRepository mediaFileRepository;
+
+    Trips saveTrips() {
+        final UserEntity author = saveAuthor();
+        final CategoryEntity category = saveCategory("Podróże");
+        final TagEntity mountains = saveTag("góry");
+        final TagEntity lakes = saveTag("jeziora");
+
+        return new Trips(author, category, mountains, lakes,
+                savePost(author, category, "Wędrówka w Tatry", "Szlak na Giewont i widok na Tatry Zachodnie.",
+                        PostStatus.PUBLISHED, mountains),
+                savePost(author, category, "Mazury latem",
+                        "Jeziora, żagle i wieczorem widok na odległe Tatry w pamięci.", PostStatus.PUBLISHED, lakes),
+                savePost(author, category, "Tatry zimą", "Szkic wpisu o Tatrach zimą.", PostStatus.DRAFT,
+                        mountains));
+    }
+
+    UserEntity saveAuthor() {
+        return userRepository.save(UserEntity.builder()
+                .email("author@example.com")
+                .password("password")
+                .name("Author")
+                .build());
+    }
+
+    CategoryEntity saveCategory(final String name) {
+        return categoryRepository.save(CategoryEntity.builder().name(name).build());
+    }
+
+    TagEntity saveTag(final String name) {
+        return tagRepository.save(TagEntity.builder().name(name).build());
+    }
+
+    PostEntity savePost(final UserEntity author, final CategoryEntity category, final String title,
+                        final String content, final PostStatus status, final TagEntity... tags) {
+        return postRepository.save(newPost(author, category, title, content, status, tags));
+    }
+
+    /**
+     * Builds a post without saving it, for tests that set more fields first.
+     */
+    PostEntity newPost(final UserEntity author, final CategoryEntity category, final String title,
+                       final String content, final PostStatus status, final TagEntity... tags) {
+        final PostEntity post = new PostEntity();
+        post.setTitle(title);
+        post.setShortDescription(title);
+        post.setContent(content);
+        post.setThumbnail("thumbnail.jpg");
+        post.setStatus(status);
+        post.setReadingTime(1);
+        post.setAuthor(author);
+        post.setCategory(category);
+        post.setTags(new HashSet<>(Set.of(tags)));
+
+        return post;
+    }
+
+    MediaEntity saveMedia(final String shortDescription, final String folder) {
+        return mediaRepository.save(MediaEntity.builder()
+                .name("")
+                .shortDescription(shortDescription)
+                .folder(folder)
+                .type((byte) 1)
+                .status((byte) 1)
+                .build());
+    }
+
+    void saveMediaFile(final MediaEntity media, final String file, final int position) {
+        mediaFileRepository.save(MediaFileEntity.builder()
+                .mediaId(media.getId())
+                .file(file)
+                .shortDescription("")
+                .size(1024)
+                .position(position)
+                .build());
+    }
+
+    void deleteAll() {
+        postRepository.deleteAll();
+        mediaFileRepository.deleteAll();
+        mediaRepository.deleteAll();
+        tagRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
@@ -0,0 +1,400 @@
+package com.ohdeerit.blog.api.controllers.v1;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import com.ohdeerit.blog.services.interfaces.ResponseCacheService;
+import com.ohdeerit.blog.services.interfaces.PostIndexingService;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.ohdeerit.blog.services.mappers.PostServiceMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import com.ohdeerit.blog.models.events.PostChangedEvent;
+import com.ohdeerit.blog.repositories.PostRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import com.ohdeerit.blog.models.enums.PostStatus;
+import com.ohdeerit.blog.models.entities.*;
+import org.hibernate.stat.Statistics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.*;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.xpath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostIndexControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PostIndexingService postIndexingService;
+
+    @Autowired
+    private ResponseCacheService responseCacheService;
+
+    @Autowired
+    private PostServiceMapper postMapper;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostFixtures postFixtures;
+
+    private Statistics statistics;
+    private UserEntity author;
+    private CategoryEntity category;
+    private TagEntity mountains;
+    private TagEntity lakes;
+    private PostEntity tatra;
+    private PostEntity masuria;
+    private PostEntity draft;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Fixtures are saved through repositories, which publish no change events
+        responseCacheService.invalidateAll();
+
+        final PostFixtures.Trips trips = postFixtures.saveTrips();
+        author = trips.author();
+        category = trips.category();
+        mountains = trips.mountains();
+        lakes = trips.lakes();
+        tatra = trips.tatra();
+        masuria = trips.masuria();
+        draft = trips.draft();
+
+        // Fixtures are saved through repositories, which publish no change events
+        postIndexingService.reindexAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postFixtures.deleteAll();
+        postIndexingService.reindexAll();
+    }
+
+    @Test
+    @DisplayName("Search ranks title matches first, skips drafts and never queries the database")
+    void testSearchRanking() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts/search").param("q", "TATRY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].post.id").value(tatra.getId().toString()))
+                .andExpect(jsonPath("$[1].post.id").value(masuria.getId().toString()));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Search folds Polish diacritics in queries and documents")
+    void testSearchDiacritics() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/search").param("q", "zagle"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].post.id").value(masuria.getId().toString()));
+
+        mockMvc.perform(get("/api/v1/posts/search").param("q", "wędrówka góry"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].post.tags[0]").value("góry"));
+    }
+
+    @Test
+    @DisplayName("Search picks up published posts from change events")
+    void testSearchIncrementalUpdate() throws Exception {
+        publish(draft);
+
+        mockMvc.perform(get("/api/v1/posts/search").param("q", "zima"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].post.id").value(draft.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Search rejects a blank query")
+    void testSearchBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Suggest completes word prefixes of published titles without querying the database")
+    void testSuggestTitles() throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/suggest").param("q", "Tat"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].type").value("POST"))
+                .andExpect(jsonPath("$[0].id").value(tatra.getId().toString()))
+                .andExpect(jsonPath("$[0].slug").value(tatra.getSlug()));
+
+        mockMvc.perform(get("/api/v1/suggest").param("q", "wedrowka w t"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(tatra.getId().toString()));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Suggest completes tags and categories of published posts")
+    void testSuggestTagsAndCategories() throws Exception {
+        mockMvc.perform(get("/api/v1/suggest").param("q", "gó"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].type").value("TAG"))
+                .andExpect(jsonPath("$[0].text").value("góry"));
+
+        mockMvc.perform(get("/api/v1/suggest").param("q", "podroz"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("CATEGORY"))
+                .andExpect(jsonPath("$[0].id").value(category.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Suggest picks up published posts from change events")
+    void testSuggestIncrementalUpdate() throws Exception {
+        mockMvc.perform(get("/api/v1/suggest").param("q", "zim"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        publish(draft);
+
+        mockMvc.perform(get("/api/v1/suggest").param("q", "zim"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(draft.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Suggest rejects a limit above the maximum")
+    void testSuggestLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/suggest").param("q", "ta").param("limit", "11"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Related posts rank shared tags above a shared category without querying the database")
+    void testRelatedPosts() throws Exception {
+        final PostEntity mountainLakes = savePost("Górskie jeziora", "Morskie Oko i Czarny Staw.",
+                PostStatus.PUBLISHED, mountains, lakes);
+        postIndexingService.reindexAll();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts/{id}/related", tatra.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].post.id").value(mountainLakes.getId().toString()))
+                .andExpect(jsonPath("$[0].score").value(0.75))
+                .andExpect(jsonPath("$[1].post.id").value(masuria.getId().toString()))
+                .andExpect(jsonPath("$[1].score").value(0.25));
+
+        mockMvc.perform(get("/api/v1/posts/{id}/related", masuria.getId()).param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].post.id").value(mountainLakes.getId().toString()));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Related posts follow status changes and are not served for drafts")
+    void testRelatedPostsIncrementalUpdate() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/{id}/related", draft.getId()))
+                .andExpect(status().isNotFound());
+
+        publish(draft);
+
+        mockMvc.perform(get("/api/v1/posts/{id}/related", tatra.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].post.id").value(draft.getId().toString()))
+                .andExpect(jsonPath("$[0].score").value(1.25));
+    }
+
+    @Test
+    @DisplayName("Post list combines tag filters with AND or OR and pages newest first")
+    void testFilterPosts() throws Exception {
+        final PostEntity mountainLakes = savePost("Górskie jeziora", "Morskie Oko i Czarny Staw.",
+                PostStatus.PUBLISHED, mountains, lakes);
+        postIndexingService.reindexAll();
+        statistics.clear();
+
+        // Parameters go in the URI: the response cache keys on the query string, which .param(...) leaves unset
+        mockMvc.perform(get("/api/v1/posts?tagId={first}&tagId={second}", mountains.getId(), lakes.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(mountainLakes.getId().toString()));
+
+        mockMvc.perform(get("/api/v1/posts?tagId={first}&tagId={second}&tagMatch=ANY&categoryId={category}",
+                        mountains.getId(), lakes.getId(), category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].id").value(mountainLakes.getId().toString()))
+                .andExpect(jsonPath("$.content[1].id").value(masuria.getId().toString()))
+                .andExpect(jsonPath("$.content[2].id").value(tatra.getId().toString()));
+
+        mockMvc.perform(get("/api/v1/posts?categoryId={category}", UUID.randomUUID()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Facets count tags and categories of the filtered published posts")
+    void testFacets() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.categories[0].name").value("Podróże"))
+                .andExpect(jsonPath("$.categories[0].count").value(2))
+                .andExpect(jsonPath("$.tags.length()").value(2));
+
+        mockMvc.perform(get("/api/v1/posts/facets").param("tagId", mountains.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.tags.length()").value(1))
+                .andExpect(jsonPath("$.tags[0].id").value(mountains.getId().toString()))
+                .andExpect(jsonPath("$.tags[0].count").value(1));
+
+        publish(draft);
+
+        mockMvc.perform(get("/api/v1/posts/facets").param("tagId", mountains.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags[0].count").value(2));
+    }
+
+    @Test
+    @DisplayName("Archive counts published posts per month without querying the database")
+    void testArchive() throws Exception {
+        final YearMonth month = YearMonth.from(tatra.getCreatedAt());
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/posts/archive"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].year").value(month.getYear()))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[0].months[0].month").value(month.getMonthValue()))
+                .andExpect(jsonPath("$[0].months[0].count").value(2));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        publish(draft);
+
+        mockMvc.perform(get("/api/v1/posts/archive"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].months[0].count").value(3));
+    }
+
+    @Test
+    @DisplayName("Archive month lists only published posts of that month")
+    void testArchivePosts() throws Exception {
+        final YearMonth month = YearMonth.from(tatra.getCreatedAt());
+
+        mockMvc.perform(get("/api/v1/posts/archive/{year}/{month}", month.getYear(), month.getMonthValue()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(masuria.getId().toString()));
+
+        final YearMonth previousMonth = month.minusMonths(1);
+        mockMvc.perform(get("/api/v1/posts/archive/{year}/{month}",
+                        previousMonth.getYear(), previousMonth.getMonthValue()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0));
+
+        mockMvc.perform(get("/api/v1/posts/archive/{year}/{month}", month.getYear(), 13))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/posts/archive/{year}/{month}", 2_000_000_000, 1))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Feed lists published posts from cached bytes and answers If-None-Match with 304")
+    void testFeed() throws Exception {
+        statistics.clear();
+
+        final String eTag = mockMvc.perform(get("/feed.xml"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/rss+xml"))
+                .andExpect(xpath("/rss/channel/item").nodeCount(2))
+                .andExpect(xpath("/rss/channel/item[1]/title").string("Mazury latem"))
+                .andExpect(xpath("/rss/channel/item[2]/link").string("http://localhost:3000/posts/" + tatra.getSlug()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/feed.xml").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        publish(draft);
+
+        mockMvc.perform(get("/feed.xml").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(xpath("/rss/channel/item").nodeCount(3));
+    }
+
+    @Test
+    @DisplayName("Category feed and sitemap cover published posts only")
+    void testCategoryFeedAndSitemap() throws Exception {
+        mockMvc.perform(get("/feed/category/{id}.xml", category.getId()))
+                .andExpect(status().isOk())
+                .andExpect(xpath("/rss/channel/title").string("Blog - Podróże"))
+                .andExpect(xpath("/rss/channel/item").nodeCount(2));
+
+        final CategoryEntity emptyCategory = postFixtures.saveCategory("Góry");
+        mockMvc.perform(get("/feed/category/{id}.xml", emptyCategory.getId()))
+                .andExpect(status().isOk())
+                .andExpect(xpath("/rss/channel/title").string("Blog - Góry"))
+                .andExpect(xpath("/rss/channel/item").doesNotExist());
+
+        mockMvc.perform(get("/feed/category/{id}.xml", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+
+        final Map<String, String> namespaces = Map.of("s", "http://www.sitemaps.org/schemas/sitemap/0.9");
+        mockMvc.perform(get("/sitemap.xml"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_XML))
+                .andExpect(xpath("/s:urlset/s:url", namespaces).nodeCount(3))
+                .andExpect(xpath("/s:urlset/s:url[s:loc='http://localhost:3000/posts/" + draft.getSlug() + "']",
+                        namespaces).doesNotExist());
+    }
+
+    private PostEntity savePost(final String title, final String content, final PostStatus status,
+                                final TagEntity... tags) {
+        return postFixtures.savePost(author, category, title, content, status, tags);
+    }
+
+    private void publish(final PostEntity post) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final PostEntity managedPost = postRepository.findById(post.getId()).orElseThrow();
+            managedPost.setStatus(PostStatus.PUBLISHED);
+
+            eventPublisher.publishEvent(new PostChangedEvent(postMapper.map(postRepository.save(managedPost))));
+        });
+    }
+}
@@ -0,0 +1,133 @@
+package com.ohdeerit.blog.benchmarks;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.ohdeerit.blog.utils.ThumbnailRendererUtil;
+import com.ohdeerit.blog.utils.ImageDecoderUtil;
+import com.ohdeerit.blog.config.ThumbnailConstants;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CPU time and heap allocation per upload of decoding the original once per thumbnail, as images were saved
+ * before, versus one decode feeding the largest-to-smallest pipeline of {@link ThumbnailRendererUtil}, and
+ * versus the same pipeline fed by the subsampled decode of {@link ImageDecoderUtil}, e.g.
+ * {@code mvn test -Dtest=ThumbnailPipelineBenchmarkTest -Dbenchmark.thumbnails=true
+ * -Dbenchmark.image-width=6000 -Dbenchmark.image-height=4000}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark.thumbnails", matches = "true")
+class ThumbnailPipelineBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int ROUNDS = 5;
+
+    @FunctionalInterface
+    private interface Upload {
+        List<BufferedImage> render(byte[] image) throws IOException;
+    }
+
+    @TempDir
+    private Path directory;
+
+    private record Result(String strategy, double cpuMillis, double allocatedMegabytes) {
+    }
+
+    @Test
+    @DisplayName("Compare decoding per thumbnail with a decode-once pipeline and a subsampled decode")
+    void benchmarkThumbnails() throws IOException {
+        final int width = Integer.getInteger("benchmark.image-width", 6000);
+        final int height = Integer.getInteger("benchmark.image-height", 4000);
+
+        final List<ThumbnailDto> thumbnails = new ArrayList<>(ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS);
+        thumbnails.add(ThumbnailConstants.POST_THUMBNAIL);
+
+        final byte[] image = jpeg(width, height);
+        final Path file = Files.write(directory.resolve("original.jpg"), image);
+
+        final Upload decodePerThumbnail = bytes -> {
+            final List<BufferedImage> rendered = new ArrayList<>();
+            for (ThumbnailDto thumbnailDto : thumbnails) {
+                rendered.add(ThumbnailRendererUtil.render(ImageIO.read(new ByteArrayInputStream(bytes)),
+                        thumbnailDto));
+            }
+            return rendered;
+        };
+
+        final Upload decodeOnce = bytes -> ThumbnailRendererUtil.render(
+                ImageIO.read(new ByteArrayInputStream(bytes)), thumbnails);
+
+        final Upload decodeSubsampled = bytes -> ThumbnailRendererUtil.render(
+                ImageDecoderUtil.decode(file, thumbnails), thumbnails);
+
+        final Result perThumbnail = measure("decode per thumbnail", decodePerThumbnail, image);
+        final Result pipeline = measure("decode once", decodeOnce, image);
+        final Result subsampled = measure("subsampled decode", decodeSubsampled, image);
+
+        log.info("[ThumbnailPipelineBenchmark] {}x{} JPEG ({} KB), {} thumbnails", width, height,
+                image.length / 1024, thumbnails.size());
+        report(perThumbnail);
+        report(pipeline);
+        report(subsampled);
+
+        assertEquals(thumbnails.size(), decodeOnce.render(image).size());
+        assertEquals(thumbnails.size(), decodeSubsampled.render(image).size());
+    }
+
+    private static Result measure(final String strategy, final Upload upload, final byte[] image)
+            throws IOException {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().threadId();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            upload.render(image);
+        }
+
+        final long cpuStart = threads.getCurrentThreadCpuTime();
+        final long allocatedStart = threads.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            upload.render(image);
+        }
+
+        final long cpuNanos = threads.getCurrentThreadCpuTime() - cpuStart;
+        final long allocatedBytes = threads.getThreadAllocatedBytes(threadId) - allocatedStart;
+
+        return new Result(strategy, cpuNanos / 1_000_000.0 / ROUNDS, allocatedBytes / 1_048_576.0 / ROUNDS);
+    }
+
+    private static byte[] jpeg(final int width, final int height) throws IOException {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8 | ((x ^ y) & 0xff));
+            }
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", outputStream);
+
+        return outputStream.toByteArray();
+    }
+
+    private static void report(final Result result) {
+        log.info("[ThumbnailPipelineBenchmark] {}: {} ms CPU, {} MB allocated per upload", result.strategy(),
+                String.format("%.1f", result.cpuMillis()), String.format("%.1f", result.allocatedMegabytes()));
+    }
+}
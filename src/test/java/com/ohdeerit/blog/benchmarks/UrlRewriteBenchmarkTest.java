@@ -0,0 +1,91 @@
+package com.ohdeerit.blog.benchmarks;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.ohdeerit.blog.utils.MultiPatternReplacer;
+import org.junit.jupiter.api.DisplayName;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.UnaryOperator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Rewriting the local file URLs of a large post body with one {@link String#replace} per URL, as posts were
+ * saved before, versus a single {@link MultiPatternReplacer} pass, e.g.
+ * {@code mvn test -Dtest=UrlRewriteBenchmarkTest -Dbenchmark.url-rewrite=true -Dbenchmark.content-kb=4096
+ * -Dbenchmark.urls=10}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark.url-rewrite", matches = "true")
+class UrlRewriteBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+    private static final String PARAGRAPH = "<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit.</p>\n";
+
+    @Test
+    @DisplayName("Compare a replace loop with a single-pass rewrite")
+    void benchmarkRewrite() {
+        final int contentKb = Integer.getInteger("benchmark.content-kb", 4096);
+        final int urls = Integer.getInteger("benchmark.urls", 10);
+
+        final Map<String, String> replacements = new LinkedHashMap<>();
+        for (int i = 0; i < urls; i++) {
+            replacements.put("blob:http://localhost:5173/" + i + "-local-image",
+                    "/resources/post_content/" + i + "-image.webp");
+        }
+
+        final String content = content(contentKb * 1024, replacements.keySet().toArray(String[]::new));
+        final MultiPatternReplacer replacer = MultiPatternReplacer.of(replacements);
+
+        final UnaryOperator<String> loop = text -> {
+            for (Map.Entry<String, String> entry : replacements.entrySet()) {
+                text = text.replace(entry.getKey(), entry.getValue());
+            }
+            return text;
+        };
+
+        assertEquals(loop.apply(content), replacer.replace(content));
+
+        final double loopMillis = measure(loop, content);
+        final double singlePassMillis = measure(replacer::replace, content);
+
+        log.info("[UrlRewriteBenchmark] {} KB, {} URLs: replace loop {} ms, single pass {} ms per rewrite",
+                contentKb, urls, String.format("%.2f", loopMillis), String.format("%.2f", singlePassMillis));
+    }
+
+    private static String content(final int length, final String[] urls) {
+        final StringBuilder content = new StringBuilder(length + 256);
+
+        int paragraph = 0;
+        while (content.length() < length) {
+            content.append(PARAGRAPH);
+            if (++paragraph % 100 == 0) {
+                content.append("<img src=\"").append(urls[(paragraph / 100) % urls.length]).append("\">\n");
+            }
+        }
+
+        return content.toString();
+    }
+
+    private static double measure(final UnaryOperator<String> rewrite, final String content) {
+        int checksum = 0;
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            checksum += rewrite.apply(content).length();
+        }
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            checksum += rewrite.apply(content).length();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        log.debug("[UrlRewriteBenchmark] Checksum {}", checksum);
+
+        return elapsed / 1_000_000.0 / ROUNDS;
+    }
+}
@@ -0,0 +1,153 @@
+package com.ohdeerit.blog.benchmarks;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import com.ohdeerit.blog.utils.UuidV7Util;
+import org.junit.jupiter.api.DisplayName;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+import java.sql.PreparedStatement;
+import java.sql.DriverManager;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.ResultSet;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Insert throughput and InnoDB size of posts and post_tags shaped tables keyed by random (v4) versus
+ * time-ordered (v7) UUIDs in BINARY(16) columns. Needs a scratch MySQL schema, e.g.
+ * {@code mvn test -Dtest=UuidInsertBenchmarkTest -Dbenchmark.mysql.url=jdbc:mysql://localhost:3306/bench
+ * -Dbenchmark.mysql.user=root -Dbenchmark.mysql.password=secret -Dbenchmark.rows=200000}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+class UuidInsertBenchmarkTest {
+
+    private static final int JDBC_BATCH_SIZE = 1000;
+    private static final int TAGS = 50;
+    private static final int TAGS_PER_POST = 3;
+    private static final String PAYLOAD = "x".repeat(200);
+
+    private record Result(String strategy, long rows, long millis, long dataBytes, long indexBytes) {
+    }
+
+    @Test
+    @DisplayName("Compare inserts keyed by UUIDv4 and UUIDv7")
+    void benchmarkInserts() throws SQLException {
+        final int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+        try (Connection connection = connect()) {
+            // Warm up the driver and server caches on a small run of each strategy
+            run(connection, "v4", UUID::randomUUID, rows / 10);
+            run(connection, "v7", UuidV7Util::generate, rows / 10);
+
+            final Result random = run(connection, "v4", UUID::randomUUID, rows);
+            final Result timeOrdered = run(connection, "v7", UuidV7Util::generate, rows);
+
+            report(random);
+            report(timeOrdered);
+
+            assertEquals(random.rows(), timeOrdered.rows());
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        final String url = System.getProperty("benchmark.mysql.url");
+        final String separator = url.contains("?") ? "&" : "?";
+
+        return DriverManager.getConnection(url + separator + "rewriteBatchedStatements=true",
+                System.getProperty("benchmark.mysql.user"), System.getProperty("benchmark.mysql.password"));
+    }
+
+    private static Result run(final Connection connection, final String strategy, final Supplier<UUID> ids,
+                              final int rows) throws SQLException {
+        final String posts = "bench_posts_" + strategy;
+        final String postTags = "bench_post_tags_" + strategy;
+        final UUID[] tagIds = new UUID[TAGS];
+        for (int i = 0; i < TAGS; i++) {
+            tagIds[i] = ids.get();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + postTags);
+            statement.execute("DROP TABLE IF EXISTS " + posts);
+            statement.execute("CREATE TABLE " + posts + " (id BINARY(16) PRIMARY KEY, " +
+                    "title VARCHAR(255) NOT NULL, content TEXT NOT NULL, created_at DATETIME(6) NOT NULL)");
+            statement.execute("CREATE TABLE " + postTags + " (post_id BINARY(16) NOT NULL, " +
+                    "tag_id BINARY(16) NOT NULL, PRIMARY KEY (post_id, tag_id), INDEX (tag_id))");
+        }
+
+        connection.setAutoCommit(false);
+        final long start = System.nanoTime();
+
+        try (PreparedStatement insertPost = connection.prepareStatement(
+                "INSERT INTO " + posts + " (id, title, content, created_at) VALUES (?, ?, ?, NOW(6))");
+             PreparedStatement insertPostTag = connection.prepareStatement(
+                     "INSERT INTO " + postTags + " (post_id, tag_id) VALUES (?, ?)")) {
+
+            for (int row = 1; row <= rows; row++) {
+                final byte[] postId = toBytes(ids.get());
+
+                insertPost.setBytes(1, postId);
+                insertPost.setString(2, "Post " + row);
+                insertPost.setString(3, PAYLOAD);
+                insertPost.addBatch();
+
+                for (int tag = 0; tag < TAGS_PER_POST; tag++) {
+                    insertPostTag.setBytes(1, postId);
+                    insertPostTag.setBytes(2, toBytes(tagIds[(row + tag * 17) % TAGS]));
+                    insertPostTag.addBatch();
+                }
+
+                if (row % JDBC_BATCH_SIZE == 0 || row == rows) {
+                    insertPost.executeBatch();
+                    insertPostTag.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        final long millis = (System.nanoTime() - start) / 1_000_000;
+
+        long dataBytes = 0;
+        long indexBytes = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + posts + ", " + postTags);
+
+            try (ResultSet sizes = statement.executeQuery("SELECT data_length, index_length " +
+                    "FROM information_schema.tables WHERE table_schema = DATABASE() " +
+                    "AND table_name IN ('" + posts + "', '" + postTags + "')")) {
+                while (sizes.next()) {
+                    dataBytes += sizes.getLong(1);
+                    indexBytes += sizes.getLong(2);
+                }
+            }
+        }
+
+        return new Result(strategy, rows, millis, dataBytes, indexBytes);
+    }
+
+    private static void report(final Result result) {
+        log.info("[UuidInsertBenchmark] {}: {} posts in {} ms ({} posts/s), clustered {} MB, secondary {} MB",
+                result.strategy(), result.rows(), result.millis(),
+                result.millis() == 0 ? result.rows() : result.rows() * 1000 / result.millis(),
+                result.dataBytes() / (1024 * 1024), result.indexBytes() / (1024 * 1024));
+    }
+
+    /**
+     * Same byte order as Hibernate's BINARY(16) mapping: most significant bits first.
+     */
+    private static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.mock.web.MockMultipartFile;
+import com.ohdeerit.blog.config.ThumbnailConstants;
+import com.ohdeerit.blog.models.dtos.SaveImageDto;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import com.ohdeerit.blog.utils.ThumbnailUtil;
+import org.springframework.http.MediaType;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageServiceImplTest {
+
+    private static final String FILE_NAME = "widok.png";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should save the original and every thumbnail")
+    void testSaveImage() throws IOException {
+        final Path thumbnailDirectory = Files.createDirectory(directory.resolve("thumbnail"));
+
+        assertEquals(FILE_NAME, imageService().saveImage(saveImageDto()));
+
+        assertTrue(Files.exists(directory.resolve(FILE_NAME)));
+        for (ThumbnailDto thumbnail : ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS) {
+            assertTrue(Files.exists(thumbnailDirectory.resolve(
+                    ThumbnailUtil.generateThumbnailFileName(FILE_NAME, thumbnail))));
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove the original and the thumbnails already written when a thumbnail fails")
+    void testSaveImageCleansUpAfterFailure() throws IOException {
+        final Path thumbnailDirectory = Files.createDirectory(directory.resolve("thumbnail"));
+        final List<ThumbnailDto> thumbnails = ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS;
+        // a non-empty directory under the last thumbnail's name makes writing it fail after the others are saved
+        final Path blocked = Files.createDirectory(thumbnailDirectory.resolve(
+                ThumbnailUtil.generateThumbnailFileName(FILE_NAME, thumbnails.getLast())));
+        Files.createFile(blocked.resolve("placeholder"));
+
+        assertThrows(RuntimeException.class, () -> imageService().saveImage(saveImageDto()));
+
+        assertFalse(Files.exists(directory.resolve(FILE_NAME)));
+        try (var entries = Files.list(thumbnailDirectory)) {
+            assertEquals(List.of(blocked), entries.toList());
+        }
+    }
+
+    private static ImageServiceImpl imageService() {
+        final ImageServiceImpl imageService = new ImageServiceImpl();
+        ReflectionTestUtils.setField(imageService, "maxFileSize", 1_048_576L);
+
+        return imageService;
+    }
+
+    private SaveImageDto saveImageDto() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+
+        return new SaveImageDto(
+                new MockMultipartFile("media.files", FILE_NAME, MediaType.IMAGE_PNG_VALUE, outputStream.toByteArray()),
+                directory, ThumbnailConstants.MEDIA_IMAGE_THUMBNAILS);
+    }
+}
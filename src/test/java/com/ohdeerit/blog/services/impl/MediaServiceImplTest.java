@@ -0,0 +1,180 @@
+package com.ohdeerit.blog.services.impl;
+
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import com.ohdeerit.blog.services.mappers.MediaServiceMapper;
+import com.ohdeerit.blog.services.interfaces.ImageService;
+import com.ohdeerit.blog.repositories.MediaFileRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.mock.web.MockMultipartFile;
+import com.ohdeerit.blog.repositories.MediaRepository;
+import com.ohdeerit.blog.models.dtos.CreateMediaDto;
+import com.ohdeerit.blog.models.dtos.MediaFileDto;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import com.ohdeerit.blog.models.dtos.MediaDto;
+import com.ohdeerit.blog.utils.ThumbnailUtil;
+import org.springframework.http.MediaType;
+import org.junit.jupiter.api.io.TempDir;
+import org.mapstruct.factory.Mappers;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MediaServiceImplTest {
+
+    private static final String BROKEN_FILE_NAME = "broken.png";
+
+    @TempDir
+    private Path uploadDirectory;
+
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final MediaRepository mediaRepository = mock(MediaRepository.class);
+    private final MediaFileRepository mediaFileRepository = mock(MediaFileRepository.class);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private MediaServiceImpl mediaService;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(mediaRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mediaFileRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(mediaService, "shutdown");
+    }
+
+    @Test
+    @DisplayName("Should keep the upload order when later files finish first")
+    void testCreateMediaKeepsUploadOrder() {
+        mediaService = mediaService(4, 4);
+
+        final MediaDto media = mediaService.createMedia(createMediaDto(files(6)));
+
+        assertEquals(List.of("0.png", "1.png", "2.png", "3.png", "4.png", "5.png"),
+                media.mediaFiles().stream().map(MediaFileDto::file).toList());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the per-upload limit of files in flight")
+    void testCreateMediaLimitsFilesInFlight() {
+        mediaService = mediaService(4, 2);
+
+        final MediaDto media = mediaService.createMedia(createMediaDto(files(8)));
+
+        assertEquals(8, media.mediaFiles().size());
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    @DisplayName("Should remove the media directory with every original and thumbnail when a file fails")
+    void testCreateMediaCleansUpAfterFailure() throws Exception {
+        mediaService = mediaService(4, 4);
+
+        final MockMultipartFile[] files = files(6);
+        files[2] = image(BROKEN_FILE_NAME);
+
+        assertThrows(IllegalArgumentException.class, () -> mediaService.createMedia(createMediaDto(files)));
+
+        try (var entries = Files.list(uploadDirectory)) {
+            assertEquals(List.of(), entries.toList());
+        }
+        verifyNoInteractions(transactionTemplate);
+
+        final MediaDto media = mediaService.createMedia(createMediaDto(files(3)));
+
+        assertEquals(List.of("0.png", "1.png", "2.png"),
+                media.mediaFiles().stream().map(MediaFileDto::file).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject an upload once the executor is shut down instead of waiting for it")
+    void testCreateMediaAfterShutdown() throws Exception {
+        mediaService = mediaService(1, 4);
+        ReflectionTestUtils.invokeMethod(mediaService, "shutdown");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertThrows(RejectedExecutionException.class,
+                () -> mediaService.createMedia(createMediaDto(files(3)))));
+
+        try (var entries = Files.list(uploadDirectory)) {
+            assertEquals(List.of(), entries.toList());
+        }
+    }
+
+    private MediaServiceImpl mediaService(final int threads, final int maxParallelPerUpload) {
+        final MediaServiceImpl service = new MediaServiceImpl(mediaRepository, mediaFileRepository,
+                Mappers.getMapper(MediaServiceMapper.class), new FileOperationsServiceImpl(), imageService(),
+                mock(ApplicationEventPublisher.class), transactionTemplate);
+
+        ReflectionTestUtils.setField(service, "uploadDirectory", uploadDirectory.toString());
+        ReflectionTestUtils.setField(service, "processingThreads", threads);
+        ReflectionTestUtils.setField(service, "processingQueueCapacity", 100);
+        ReflectionTestUtils.setField(service, "maxParallelPerUpload", maxParallelPerUpload);
+        ReflectionTestUtils.invokeMethod(service, "init");
+
+        return service;
+    }
+
+    /**
+     * Writes the original and its thumbnails under the names the real service uses, taking longer for the
+     * files earlier in the upload. The broken file writes its output before failing.
+     */
+    private ImageService imageService() {
+        return saveImageDto -> {
+            final String fileName = saveImageDto.originalFile().getOriginalFilename();
+            final int running = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(running, Math::max);
+
+            try {
+                Files.writeString(saveImageDto.uploadDirectory().resolve(fileName), fileName);
+                for (ThumbnailDto thumbnail : saveImageDto.thumbnails()) {
+                    Files.writeString(saveImageDto.uploadDirectory().resolve("thumbnail")
+                            .resolve(ThumbnailUtil.generateThumbnailFileName(fileName, thumbnail)), fileName);
+                }
+
+                if (BROKEN_FILE_NAME.equals(fileName)) {
+                    throw new IllegalArgumentException("Unreadable image: " + fileName);
+                }
+
+                Thread.sleep(fileName.charAt(0) == '0' ? 200 : 50);
+
+                return fileName;
+            } catch (IOException | InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    private static CreateMediaDto createMediaDto(final MockMultipartFile[] files) {
+        return new CreateMediaDto("Galeria", (byte) 1, files);
+    }
+
+    private static MockMultipartFile[] files(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> image(i + ".png"))
+                .toArray(MockMultipartFile[]::new);
+    }
+
+    private static MockMultipartFile image(final String fileName) {
+        return new MockMultipartFile("media.files", fileName, MediaType.IMAGE_PNG_VALUE, new byte[1024]);
+    }
+}
@@ -0,0 +1,76 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.dtos.ContentAnalysisDto;
+import com.ohdeerit.blog.models.dtos.PostHeadingDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentAnalyzerUtilTest {
+
+    @Test
+    @DisplayName("Should count words and images outside tags, scripts and comments")
+    void testCounts() {
+        final ContentAnalysisDto analysis = ContentAnalyzerUtil.analyze(
+                "<p class=\"lead\">Ala ma&nbsp;kota.</p><img src=\"a.png\"/>" +
+                        "<script>var words = 'not counted';</script><!-- not counted -->" +
+                        "<p>Tom &amp; Jerry</p><IMG src=b.png>");
+
+        assertEquals(6, analysis.wordCount());
+        assertEquals(1, analysis.readingTime());
+        assertEquals(2, analysis.imageCount());
+    }
+
+    @Test
+    @DisplayName("Should round reading time up to whole minutes, with at least one minute")
+    void testReadingTime() {
+        assertEquals(1, ContentAnalyzerUtil.analyze("").readingTime());
+        assertEquals(1, ContentAnalyzerUtil.analyze("word ".repeat(200)).readingTime());
+        assertEquals(2, ContentAnalyzerUtil.analyze("word ".repeat(201)).readingTime());
+    }
+
+    @Test
+    @DisplayName("Should give markup-only content no words but a reading time of one minute")
+    void testMarkupOnly() {
+        final ContentAnalysisDto analysis = ContentAnalyzerUtil.analyze(
+                "<p><img src=\"a.jpg\"></p><!-- szkic --><script>var words = 1;</script><br/>");
+
+        assertEquals(0, analysis.wordCount());
+        assertEquals(1, analysis.imageCount());
+        assertEquals(1, analysis.readingTime());
+    }
+
+    @Test
+    @DisplayName("Should build the heading outline with nested inline tags as plain text")
+    void testOutline() {
+        final ContentAnalysisDto analysis = ContentAnalyzerUtil.analyze(
+                "<h1 id=\"intro\">Wstęp &amp; cel</h1><p>Tekst</p><H2>Drugi <b>rozdział</b></H2><h3></h3>");
+
+        assertEquals(List.of(
+                new PostHeadingDto(1, "Wstęp & cel"),
+                new PostHeadingDto(2, "Drugi rozdział")
+        ), analysis.outline());
+    }
+
+    @Test
+    @DisplayName("Should cut the plain-text excerpt at a word boundary")
+    void testExcerpt() {
+        assertEquals("Ala ma kota", ContentAnalyzerUtil.analyze("<p>Ala</p>\n<p>ma   kota</p>").excerpt());
+
+        final String excerpt = ContentAnalyzerUtil.analyze("word ".repeat(400)).excerpt();
+        assertTrue(excerpt.length() <= ContentAnalyzerUtil.EXCERPT_LENGTH);
+        assertTrue(excerpt.endsWith("word…"));
+    }
+
+    @Test
+    @DisplayName("Should keep unknown references and stray angle brackets as text")
+    void testLiteralText() {
+        final ContentAnalysisDto analysis = ContentAnalyzerUtil.analyze("5 < 6 &bogus; a&#x41;b");
+
+        assertEquals("5 < 6 &bogus; aAb", analysis.excerpt());
+        assertEquals(5, analysis.wordCount());
+    }
+}
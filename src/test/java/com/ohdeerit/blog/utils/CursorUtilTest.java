@@ -0,0 +1,50 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.dtos.PostCursorDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilTest {
+
+    @Test
+    @DisplayName("Should round-trip post cursor")
+    void testPostCursorRoundTrip() {
+        final LocalDateTime createdAt = LocalDateTime.of(2024, 5, 17, 12, 30, 15);
+        final UUID id = UUID.randomUUID();
+
+        final String cursor = CursorUtil.encodePostCursor(createdAt, id);
+        final PostCursorDto decoded = CursorUtil.decodePostCursor(cursor);
+
+        assertEquals(new PostCursorDto(createdAt, id), decoded);
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("Should round-trip media cursor")
+    void testMediaCursorRoundTrip() {
+        assertEquals(42, CursorUtil.decodeMediaCursor(CursorUtil.encodeMediaCursor(42)));
+    }
+
+    @Test
+    @DisplayName("Should treat missing cursor as first page")
+    void testMissingCursor() {
+        assertNull(CursorUtil.decodePostCursor(null));
+        assertNull(CursorUtil.decodePostCursor(""));
+        assertNull(CursorUtil.decodeMediaCursor(null));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursors")
+    void testMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decodePostCursor("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decodePostCursor(
+                CursorUtil.encodeMediaCursor(42)));
+        assertThrows(IllegalArgumentException.class, () -> CursorUtil.decodeMediaCursor(
+                CursorUtil.encodePostCursor(LocalDateTime.now(), UUID.randomUUID())));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ohdeerit.blog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagUtilTest {
+
+    @Test
+    @DisplayName("Should quote content version")
+    void testVersionETag() {
+        assertEquals("\"42\"", ETagUtil.of(42));
+    }
+
+    @Test
+    @DisplayName("Should ignore sub-second precision of update timestamp")
+    void testEntityETag() {
+        final LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 17, 12, 30, 15);
+
+        assertEquals(ETagUtil.of(42, updatedAt), ETagUtil.of(42, updatedAt.withNano(123_456_000)));
+        assertNotEquals(ETagUtil.of(42, updatedAt), ETagUtil.of(43, updatedAt));
+        assertNotEquals(ETagUtil.of(42, updatedAt), ETagUtil.of(42, updatedAt.plusSeconds(1)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.enums.ThumbnailMethod;
+import com.ohdeerit.blog.models.dtos.DecodedImageDto;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.awt.Rectangle;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageDecoderUtilTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should subsample as far as the largest thumbnail allows")
+    void testSubsampling() {
+        assertEquals(10, ImageDecoderUtil.subsampling(6000, 4000, List.of(
+                new ThumbnailDto(165, 100, ThumbnailMethod.ADAPTIVE, 100),
+                new ThumbnailDto(600, 400, ThumbnailMethod.ADAPTIVE, 100))));
+        assertEquals(3, ImageDecoderUtil.subsampling(1000, 1000, List.of(
+                new ThumbnailDto(300, 100, ThumbnailMethod.RESIZE, 100))));
+        assertEquals(2, ImageDecoderUtil.subsampling(1000, 1000, List.of(
+                new ThumbnailDto(1, 1, ThumbnailMethod.PERCENT, 50))));
+        assertEquals(1, ImageDecoderUtil.subsampling(100, 100, List.of(
+                new ThumbnailDto(600, 400, ThumbnailMethod.FILL, 100))));
+    }
+
+    @Test
+    @DisplayName("Should keep only the centred area covered by crops")
+    void testCropRegion() {
+        assertEquals(new Rectangle(1000, 0, 4000, 4000), ImageDecoderUtil.cropRegion(6000, 4000, List.of(
+                new ThumbnailDto(100, 100, ThumbnailMethod.CROP, 100))));
+        assertEquals(new Rectangle(0, 0, 6000, 4000), ImageDecoderUtil.cropRegion(6000, 4000, List.of(
+                new ThumbnailDto(300, 200, ThumbnailMethod.CROP, 100))));
+        assertEquals(new Rectangle(0, 0, 6000, 4000), ImageDecoderUtil.cropRegion(6000, 4000, List.of(
+                new ThumbnailDto(100, 100, ThumbnailMethod.CROP, 100),
+                new ThumbnailDto(100, 100, ThumbnailMethod.RESIZE, 100))));
+    }
+
+    @Test
+    @DisplayName("Should decode a subsampled raster and report the full-resolution size")
+    void testDecodeSubsampled() throws IOException {
+        final Path image = png(1600, 1200);
+
+        final DecodedImageDto decoded = ImageDecoderUtil.decode(image, List.of(
+                new ThumbnailDto(400, 300, ThumbnailMethod.RESIZE, 100)));
+
+        assertEquals(1600, decoded.width());
+        assertEquals(1200, decoded.height());
+        assertEquals(400, decoded.image().getWidth());
+        assertEquals(300, decoded.image().getHeight());
+    }
+
+    @Test
+    @DisplayName("Should decode only the crop region")
+    void testDecodeCropRegion() throws IOException {
+        final Path image = png(1600, 1200);
+
+        final DecodedImageDto decoded = ImageDecoderUtil.decode(image, List.of(
+                new ThumbnailDto(300, 300, ThumbnailMethod.CROP, 100)));
+
+        assertEquals(1200, decoded.width());
+        assertEquals(1200, decoded.height());
+        assertEquals(300, decoded.image().getWidth());
+        assertEquals(300, decoded.image().getHeight());
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not images")
+    void testDecodeNotAnImage() throws IOException {
+        final Path file = Files.writeString(directory.resolve("notes.png"), "notes");
+
+        assertThrows(IOException.class, () -> ImageDecoderUtil.decode(file, List.of(
+                new ThumbnailDto(100, 100, ThumbnailMethod.RESIZE, 100))));
+    }
+
+    private Path png(final int width, final int height) throws IOException {
+        final Path path = directory.resolve("original.png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", path.toFile());
+
+        return path;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ohdeerit.blog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiPatternReplacerTest {
+
+    @Test
+    @DisplayName("Should replace every occurrence of every pattern")
+    void testReplaceAll() {
+        final MultiPatternReplacer replacer = MultiPatternReplacer.of(Map.of(
+                "blob:local/1", "/resources/post_content/a.png",
+                "blob:local/2", "/resources/post_content/b.png"
+        ));
+
+        assertEquals("<img src=\"/resources/post_content/a.png\"><img src=\"/resources/post_content/b.png\">"
+                        + "<img src=\"/resources/post_content/a.png\">",
+                replacer.replace("<img src=\"blob:local/1\"><img src=\"blob:local/2\"><img src=\"blob:local/1\">"));
+    }
+
+    @Test
+    @DisplayName("Should prefer the leftmost, then the longest of overlapping matches")
+    void testOverlappingMatches() {
+        final Map<String, String> replacements = new LinkedHashMap<>();
+        replacements.put("img/1", "A");
+        replacements.put("img/10", "B");
+        replacements.put("g/10x", "C");
+
+        final MultiPatternReplacer replacer = MultiPatternReplacer.of(replacements);
+
+        assertEquals("B A A", replacer.replace("img/10 img/1 img/1"));
+        assertEquals("Bx", replacer.replace("img/10x"));
+        assertEquals("sC", replacer.replace("sg/10x"));
+    }
+
+    @Test
+    @DisplayName("Should not rescan replacement text")
+    void testNoRescan() {
+        final MultiPatternReplacer replacer = MultiPatternReplacer.of(Map.of("a", "ab", "b", "a"));
+
+        assertEquals("aba", replacer.replace("ab"));
+        assertEquals("abaab", replacer.replace("aba"));
+    }
+
+    @Test
+    @DisplayName("Should match patterns with non-ASCII characters")
+    void testNonAscii() {
+        final MultiPatternReplacer replacer = MultiPatternReplacer.of(Map.of("żółw.png", "turtle.png"));
+
+        assertEquals("<img src=\"turtle.png\"> żółw", replacer.replace("<img src=\"żółw.png\"> żółw"));
+    }
+
+    @Test
+    @DisplayName("Should return the text unchanged without patterns or matches")
+    void testNoReplacements() {
+        final String text = "<p>Nothing to replace</p>";
+
+        assertSame(text, MultiPatternReplacer.of(Map.of()).replace(text));
+        assertSame(text, MultiPatternReplacer.of(Map.of("blob:", "/x")).replace(text));
+        assertNull(MultiPatternReplacer.of(Map.of("blob:", "/x")).replace(null));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ohdeerit.blog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlugUtilTest {
+
+    @Test
+    @DisplayName("Should fold diacritics, drop punctuation and collapse separators")
+    void testSlugify() {
+        assertEquals("wedrowka-w-tatry-zolw", SlugUtil.slugify("  Wędrówka w TATRY -- żółw! ", 255));
+        assertEquals("dont-stop", SlugUtil.slugify("Don't\tstop", 255));
+        assertEquals("a-b", SlugUtil.slugify("a - b", 255));
+    }
+
+    @Test
+    @DisplayName("Should cut the slug to the maximum length without a trailing hyphen")
+    void testMaxLength() {
+        assertEquals("abc", SlugUtil.slugify("abc def", 4));
+        assertEquals("abc-d", SlugUtil.slugify("abc def", 5));
+    }
+
+    @Test
+    @DisplayName("Should accept only lower-case runs joined by single hyphens within the maximum length")
+    void testIsSlug() {
+        assertTrue(SlugUtil.isSlug("wedrowka-w-tatry-2", 255));
+        assertFalse(SlugUtil.isSlug("Wedrowka", 255));
+        assertFalse(SlugUtil.isSlug("a--b", 255));
+        assertFalse(SlugUtil.isSlug("-a", 255));
+        assertFalse(SlugUtil.isSlug("a-", 255));
+        assertFalse(SlugUtil.isSlug("żółw", 255));
+        assertFalse(SlugUtil.isSlug("", 255));
+        assertFalse(SlugUtil.isSlug("abcde", 4));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a random UUID when nothing is left")
+    void testEmpty() {
+        assertDoesNotThrow(() -> UUID.fromString(SlugUtil.slugify("!!!", 255)));
+        assertDoesNotThrow(() -> UUID.fromString(SlugUtil.slugify(null, 255)));
+    }
+
+    @Test
+    @DisplayName("Should append suffixes within the maximum length")
+    void testWithSuffix() {
+        assertEquals("hello-world-2", SlugUtil.withSuffix("hello-world", 2, 255));
+        assertEquals("hello-10", SlugUtil.withSuffix("hello-world", 10, 9));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ohdeerit.blog.utils;
+
+import com.ohdeerit.blog.models.enums.ThumbnailMethod;
+import com.ohdeerit.blog.models.dtos.DecodedImageDto;
+import com.ohdeerit.blog.models.dtos.ThumbnailDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThumbnailRendererUtilTest {
+
+    private static final BufferedImage ORIGINAL = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+
+    @Test
+    @DisplayName("Should render every method at its size, in the order given")
+    void testRenderSizes() throws IOException {
+        final List<ThumbnailDto> thumbnails = List.of(
+                new ThumbnailDto(165, 100, ThumbnailMethod.ADAPTIVE, 100),
+                new ThumbnailDto(100, 100, ThumbnailMethod.CROP, 100),
+                new ThumbnailDto(600, 400, ThumbnailMethod.RESIZE, 100),
+                new ThumbnailDto(200, 100, ThumbnailMethod.FILL, 100),
+                new ThumbnailDto(1, 1, ThumbnailMethod.PERCENT, 10)
+        );
+
+        final List<BufferedImage> rendered = ThumbnailRendererUtil.render(ORIGINAL, thumbnails);
+
+        assertSize(165, 100, rendered.get(0));
+        assertSize(100, 100, rendered.get(1));
+        assertSize(600, 400, rendered.get(2));
+        assertSize(200, 100, rendered.get(3));
+        assertSize(160, 120, rendered.get(4));
+    }
+
+    @Test
+    @DisplayName("Should match rendering each thumbnail straight from the original")
+    void testRenderMatchesSingleRender() throws IOException {
+        final ThumbnailDto thumbnailDto = new ThumbnailDto(300, 200, ThumbnailMethod.FILL, 100);
+
+        final BufferedImage pipelined = ThumbnailRendererUtil.render(ORIGINAL,
+                List.of(new ThumbnailDto(800, 600, ThumbnailMethod.RESIZE, 100), thumbnailDto)).get(1);
+        final BufferedImage single = ThumbnailRendererUtil.render(ORIGINAL, thumbnailDto);
+
+        assertSize(single.getWidth(), single.getHeight(), pipelined);
+    }
+
+    @Test
+    @DisplayName("Should size thumbnails from a subsampled decode against the full-resolution original")
+    void testRenderSubsampled() throws IOException {
+        final DecodedImageDto decoded = new DecodedImageDto(
+                new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), 1600, 1200);
+
+        final List<BufferedImage> rendered = ThumbnailRendererUtil.render(decoded, List.of(
+                new ThumbnailDto(1, 1, ThumbnailMethod.PERCENT, 25),
+                new ThumbnailDto(165, 100, ThumbnailMethod.ADAPTIVE, 100)));
+
+        assertSize(400, 300, rendered.get(0));
+        assertSize(165, 100, rendered.get(1));
+    }
+
+    @Test
+    @DisplayName("Should never scale the source up")
+    void testSourceScale() {
+        assertEquals(0.5, ThumbnailRendererUtil.sourceScale(1600, 1200,
+                new ThumbnailDto(800, 100, ThumbnailMethod.CROP, 100)));
+        assertEquals(0.25, ThumbnailRendererUtil.sourceScale(1600, 1200,
+                new ThumbnailDto(800, 300, ThumbnailMethod.FILL, 100)));
+        assertEquals(1.0, ThumbnailRendererUtil.sourceScale(100, 100,
+                new ThumbnailDto(600, 400, ThumbnailMethod.RESIZE, 100)));
+    }
+
+    private static void assertSize(final int width, final int height, final BufferedImage image) {
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
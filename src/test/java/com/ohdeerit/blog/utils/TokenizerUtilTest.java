@@ -0,0 +1,50 @@
+package com.ohdeerit.blog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenizerUtilTest {
+
+    @Test
+    @DisplayName("Should fold Polish diacritics in both cases")
+    void testFoldDiacritics() {
+        assertEquals(List.of("zazolc", "gesla", "jazn"), TokenizerUtil.tokenize("Zażółć gęślą jaźń"));
+        assertEquals(List.of("zolw", "lodz"), TokenizerUtil.tokenize("ŻÓŁW, ŁÓDŹ"));
+    }
+
+    @Test
+    @DisplayName("Should split on punctuation and drop single characters")
+    void testSplitTokens() {
+        assertEquals(List.of("spring", "boot", "3x", "java", "21", "tyle"),
+                TokenizerUtil.tokenize("Spring-Boot 3x: a Java 21 (i tyle)!"));
+        assertEquals(List.of("tyle"), TokenizerUtil.tokenize("a i w z tyle"));
+    }
+
+    @Test
+    @DisplayName("Should skip HTML tags but keep their text")
+    void testSkipHtmlTags() {
+        assertEquals(List.of("gory", "zima"),
+                TokenizerUtil.tokenize("<p class=\"lead\">Góry <img src=\"/a.jpg\"/>zimą</p>"));
+        assertEquals(List.of("lt", "gt"), TokenizerUtil.tokenize("lt < gt"));
+    }
+
+    @Test
+    @DisplayName("Should normalize text into single-spaced folded words")
+    void testNormalize() {
+        assertEquals("wedrowka w tatry", TokenizerUtil.normalize("  Wędrówka w Tatry! "));
+        assertEquals("spring boot 3", TokenizerUtil.normalize("Spring--Boot (3)"));
+        assertEquals("", TokenizerUtil.normalize("?!"));
+        assertEquals("", TokenizerUtil.normalize(null));
+    }
+
+    @Test
+    @DisplayName("Should return no tokens for empty text")
+    void testEmptyText() {
+        assertTrue(TokenizerUtil.tokenize(null).isEmpty());
+        assertTrue(TokenizerUtil.tokenize("").isEmpty());
+    }
+}
@@ -0,0 +1,55 @@
+package com.ohdeerit.blog.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7UtilTest {
+
+    @Test
+    @DisplayName("Should set version 7, the RFC variant and the millisecond timestamp")
+    void testLayout() {
+        // Ahead of every other timestamp used in this JVM, so the generator has nothing to borrow from
+        final long tomorrow = System.currentTimeMillis() + 86_400_000;
+        final UUID uuid = UuidV7Util.generate(tomorrow);
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(tomorrow, UuidV7Util.timestamp(uuid));
+    }
+
+    @Test
+    @DisplayName("Should increase monotonically within one millisecond and when the clock steps back")
+    void testMonotonic() {
+        final long millis = System.currentTimeMillis() + 60_000;
+
+        UUID previous = UuidV7Util.generate(millis);
+        for (int i = 0; i < 10_000; i++) {
+            final UUID next = UuidV7Util.generate(i % 2 == 0 ? millis : millis - 1_000);
+
+            assertTrue(compareUnsigned(previous, next) < 0, previous + " should sort before " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject timestamps of other UUID versions")
+    void testTimestampOfRandomUuid() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Util.timestamp(UUID.randomUUID()));
+    }
+
+    /**
+     * Byte order of the BINARY(16) column, unlike {@link UUID#compareTo}, which compares signed longs.
+     */
+    private static int compareUnsigned(final UUID first, final UUID second) {
+        final int byMostSignificantBits = Long.compareUnsigned(first.getMostSignificantBits(),
+                second.getMostSignificantBits());
+
+        return byMostSignificantBits != 0
+                ? byMostSignificantBits
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}